@@ -0,0 +1,31 @@
+package com.scrooge.scheduler;
+
+import com.scrooge.scrooge.service.challenge.StartChallengeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeAuthTimeoutScheduler {
+
+    private final StartChallengeService startChallengeService;
+
+    // 확인 중 상태로 둘 수 있는 최대 시간 (작업 큐 대기 + 비교 시간보다 넉넉하게)
+    @Value("${challenge.auth.pending-timeout-minutes:10}")
+    private long pendingTimeoutMinutes;
+
+    // 서버 재시작 등으로 작업이 유실되어 계속 확인 중(null)으로 남은 인증을 실패로 정리한다.
+    @Scheduled(cron = "${scheduler.challenge-auth-timeout.cron:0 */5 * * * *}")
+    public void failStalePendingAuths() {
+        int failed = startChallengeService.failTimedOutAuths(LocalDateTime.now().minusMinutes(pendingTimeoutMinutes));
+        if (failed > 0) {
+            log.warn("확인 중 상태로 {}분 넘게 남은 챌린지 인증 {}건을 실패로 처리", pendingTimeoutMinutes, failed);
+        }
+    }
+}
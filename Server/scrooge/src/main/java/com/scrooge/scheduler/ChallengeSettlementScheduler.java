@@ -0,0 +1,72 @@
+package com.scrooge.scheduler;
+
+import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import com.scrooge.scrooge.service.challenge.ChallengeSettlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeSettlementScheduler {
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeSettlementService challengeSettlementService;
+
+    // 한 트랜잭션에서 정산할 챌린지 수
+    @Value("${scheduler.challenge-settlement.chunk-size:100}")
+    private int chunkSize;
+
+    // 묶음 하나를 다시 시도하는 최대 횟수
+    @Value("${scheduler.challenge-settlement.max-attempts:3}")
+    private int maxAttempts;
+
+    // endDate가 지난 진행 중 챌린지를 종료(status 3)로 바꾸고 이긴 팀에 경험치를 준다.
+    @Scheduled(cron = "${scheduler.challenge-settlement.cron:0 0 0 * * *}") // 매일 자정에 실행
+    public void settleEndedChallenges() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        int settled = 0;
+        int awardedMembers = 0;
+        int chunks = 0;
+        int failedChunks = 0;
+        long lastId = 0;
+        while (true) {
+            // (status, end_date) 인덱스로 종료일이 지난 챌린지 id만 가져온다. 실패한 묶음은 건너뛰고 다음 실행에서 다시 정산된다.
+            List<Long> challengeIds = challengeRepository.findExpiredChallengeIds(now, lastId, PageRequest.of(0, chunkSize));
+            if (challengeIds.isEmpty()) break;
+            lastId = challengeIds.get(challengeIds.size() - 1);
+            chunks++;
+
+            int[] result = settleWithRetry(challengeIds);
+            if (result == null) {
+                failedChunks++;
+                continue;
+            }
+            settled += result[0];
+            awardedMembers += result[1];
+        }
+
+        log.info("챌린지 정산: {}개 챌린지, 경험치 지급 {}명, {}개 묶음 (실패 {}), {}ms",
+                settled, awardedMembers, chunks, failedChunks, System.currentTimeMillis() - startedAt);
+    }
+
+    private int[] settleWithRetry(List<Long> challengeIds) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return challengeSettlementService.settleChallenges(challengeIds);
+            } catch (RuntimeException e) {
+                log.warn("챌린지 정산 실패 ({}/{}): challengeIds={}", attempt, maxAttempts, challengeIds, e);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.scrooge.scheduler;
+
+import com.scrooge.scrooge.repository.challenge.ChallengeParticipantRepository;
+import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeSuccessCountScheduler {
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeParticipantRepository challengeParticipantRepository;
+
+    // 진행 중인 챌린지의 참여자별/팀별 인증 성공 횟수를 challenge_auth 기준으로 다시 계산한다.
+    // (인증 저장과 카운터 증가 사이에 실패해서 어긋난 값 보정)
+    // 참여자별 보정과 팀별 합계가 한 트랜잭션 안에서 같은 값을 보도록 묶는다.
+    @Transactional
+    @Scheduled(cron = "${scheduler.challenge-success-count.cron:0 30 * * * *}")
+    public void reconcileSuccessCounts() {
+        long startedAt = System.currentTimeMillis();
+
+        int participants = challengeParticipantRepository.reconcileSuccessCounts(Collections.singletonList(2));
+        int challenges = challengeRepository.reconcileTeamSuccessCounts(Collections.singletonList(2));
+
+        log.info("챌린지 인증 성공 횟수 보정: 참여자 {}명, 챌린지 {}개, {}ms", participants, challenges, System.currentTimeMillis() - startedAt);
+    }
+}
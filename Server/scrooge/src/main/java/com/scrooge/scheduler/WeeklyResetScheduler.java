@@ -1,38 +1,49 @@
 package com.scrooge.scheduler;
 
-import com.scrooge.scrooge.controller.PaymentHistoryController;
-import com.scrooge.scrooge.domain.member.Member;
 import com.scrooge.scrooge.repository.member.MemberRepository;
 import com.scrooge.scrooge.repository.member.MemberSelectedQuestRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.io.Console;
-import java.util.List;
-
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class WeeklyResetScheduler {
 
     private final MemberRepository memberRepository;
     private final MemberSelectedQuestRepository memberSelectedQuestRepository;
-    private final PaymentHistoryController paymentHistoryController;
+
+    // 한 트랜잭션에서 처리할 행 수 (락을 오래 잡지 않도록 구간을 나눠서 커밋)
+    @Value("${scheduler.reset.chunk-size:1000}")
+    private int chunkSize;
 
     @Scheduled(cron = "0 0 0 * * 1")
     public void resetWeekly() {
-        //Member 테이블의 모든 레코드를 가져와서 weekly_consum 값과 weekly_goal 값을 0으로 업데이트
-        List<Member> members = memberRepository.findAll();
-        for(Member member : members) {
-            member.setWeeklyConsum(0);
-            member.setWeeklyGoal(0);
-        }
+        long startedAt = System.currentTimeMillis();
 
-        // 업데이트 된 값 다시 레포지토리에 저장
-        memberRepository.saveAll(members);
+        // Member를 읽어오지 않고 id 구간마다 UPDATE 한 번으로 weekly_consum, weekly_goal 을 0으로 초기화
+        long maxMemberId = memberRepository.findMaxId();
+        int resetMembers = 0;
+        int chunks = 0;
+        for(long fromId = 0; fromId < maxMemberId; fromId += chunkSize) {
+            resetMembers += memberRepository.resetWeeklyInIdRange(fromId, Math.min(fromId + chunkSize, maxMemberId));
+            chunks++;
+        }
+        log.info("주간 소비량 초기화: {}명, {}개 구간, {}ms", resetMembers, chunks, System.currentTimeMillis() - startedAt);
 
-        // 매주마다 memberowningquest목록 전체 초기화
-        memberSelectedQuestRepository.deleteAll();
+        // 매주마다 memberowningquest목록 전체 초기화 (SELECT 없이 chunkSize개씩 삭제)
+        long questStartedAt = System.currentTimeMillis();
+        long maxQuestId = memberSelectedQuestRepository.findMaxId();
+        int deletedQuests = 0;
+        int deleted;
+        do {
+            deleted = memberSelectedQuestRepository.deleteChunkUpToId(maxQuestId, chunkSize);
+            deletedQuests += deleted;
+        } while(deleted == chunkSize);
+        log.info("선택 퀘스트 초기화: {}건, {}ms", deletedQuests, System.currentTimeMillis() - questStartedAt);
     }
 
     // 일일 정산 완료 여부 매일 초기화
@@ -40,13 +51,18 @@ public class WeeklyResetScheduler {
     @Scheduled(cron = "0 0 0 * * *")
     public void resetDailyMidNight() {
 
-        // 모든 회원정보를 가져와서 정산유무를 초기화
-        memberRepository.findAll().forEach(member -> {
-                    if (!member.getIsSettlementDone()) {
-                        member.setStreak(0);
-                    }
-                    member.setIsSettlementDone(false);
-                    memberRepository.save(member);
-                });
+        long startedAt = System.currentTimeMillis();
+
+        // 회원을 읽어오지 않고 id 구간마다 정산 안 한 회원 스트릭 초기화 -> 정산 여부 초기화 순으로 UPDATE
+        long maxMemberId = memberRepository.findMaxId();
+        int streakResets = 0;
+        int settlementResets = 0;
+        for(long fromId = 0; fromId < maxMemberId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize, maxMemberId);
+            streakResets += memberRepository.resetStreakOfUnsettledInIdRange(fromId, toId);
+            settlementResets += memberRepository.clearSettlementDoneInIdRange(fromId, toId);
+        }
+        log.info("일일 정산 초기화: 스트릭 초기화 {}명, 정산 여부 초기화 {}명, {}ms",
+                streakResets, settlementResets, System.currentTimeMillis() - startedAt);
     }
 }
@@ -0,0 +1,26 @@
+package com.scrooge.scrooge.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ChallengeAuthConfig {
+
+    // 비동기 챌린지 인증(사진 리사이즈, 업로드, 유사도 비교)을 처리하는 작업 스레드 풀
+    // 큐가 가득 차면 TaskRejectedException 이 발생하고, 요청은 잠시 후 다시 시도하도록 응답한다.
+    @Bean
+    public ThreadPoolTaskExecutor challengeAuthExecutor(
+            @Value("${challenge.auth.worker.pool-size:4}") int poolSize,
+            @Value("${challenge.auth.worker.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("challenge-auth-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
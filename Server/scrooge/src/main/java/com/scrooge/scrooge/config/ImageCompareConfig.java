@@ -0,0 +1,66 @@
+package com.scrooge.scrooge.config;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ImageCompareConfig {
+
+    // 챌린지 인증 시 예시 사진들과의 유사도 비교를 동시에 요청하기 위한 스레드 풀
+    // 큐가 가득 차면 요청 스레드에서 직접 실행해서 비교 요청 수를 제한한다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService imageCompareExecutor(
+            @Value("${image-compare.pool-size:10}") int poolSize,
+            @Value("${image-compare.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-compare-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 이미지 비교 서버 전용 HTTP 클라이언트 (커넥션 풀 + keep-alive 재사용, 타임아웃 지정)
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient imageCompareHttpClient(
+            @Value("${image-compare.max-connections:20}") int maxConnections,
+            @Value("${image-compare.connect-timeout-ms:1000}") int connectTimeoutMs,
+            @Value("${image-compare.read-timeout-ms:5000}") int readTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(30L, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections); // 비교 서버 하나만 호출한다.
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(connectTimeoutMs)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(30L, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate imageCompareRestTemplate(CloseableHttpClient imageCompareHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(imageCompareHttpClient));
+    }
+}
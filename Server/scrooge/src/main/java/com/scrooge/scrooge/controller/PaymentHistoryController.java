@@ -4,6 +4,7 @@ import com.scrooge.scrooge.config.jwt.JwtTokenProvider;
 import com.scrooge.scrooge.domain.member.Member;
 import com.scrooge.scrooge.domain.PaymentHistory;
 import com.scrooge.scrooge.dto.DateTimeReqDto;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryBatchRespDto;
 import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryDto;
 import com.scrooge.scrooge.dto.SuccessResp;
 import com.scrooge.scrooge.dto.member.MemberDto;
@@ -14,6 +15,7 @@ import com.scrooge.scrooge.service.PaymentHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -47,12 +49,40 @@ public class PaymentHistoryController {
 
         Long memberId = jwtTokenProvider.extractMemberId(token);
 
-        Optional<Member> member = memberRepository.findById(memberId);
-
-        PaymentHistoryRespDto paymentHistoryRespDto = paymentHistoryService.addPaymentHistory(memberId, paymentHistoryDto);
+        PaymentHistoryRespDto paymentHistoryRespDto;
+        try {
+            paymentHistoryRespDto = paymentHistoryService.addPaymentHistory(memberId, paymentHistoryDto);
+        } catch(DataIntegrityViolationException e) {
+            // 같은 멱등키 요청이 동시에 들어와 유니크 제약에 걸린 경우 먼저 등록된 소비내역을 돌려준다.
+            Long duplicatedId = paymentHistoryDto.getIdempotencyKey() == null ? null
+                    : paymentHistoryService.findDuplicatedPaymentHistoryId(memberId, paymentHistoryDto.getIdempotencyKey());
+            if(duplicatedId == null) {
+                throw e;
+            }
+            paymentHistoryRespDto = paymentHistoryService.duplicatedPaymentHistoryResp(duplicatedId);
+        }
         return new ResponseEntity<>(paymentHistoryRespDto, HttpStatus.OK);
     }
 
+    // 소비내역 여러 건을 한 번에 등록하는 API
+    @Operation(summary = "소비내역을 한 번에 여러 건 등록하는 API", description = "오프라인 동안 쌓인 소비내역 일괄 등록 (최대 " + PaymentHistoryService.MAX_BATCH_SIZE + "건)")
+    @PostMapping("/batch")
+    public ResponseEntity<?> addPaymentHistories(@RequestBody List<PaymentHistoryDto> paymentHistoryDtos, @RequestHeader("Authorization")String tokenHeader) {
+        String token = extractToken(tokenHeader);
+
+        Long memberId = jwtTokenProvider.extractMemberId(token);
+
+        try {
+            PaymentHistoryBatchRespDto paymentHistoryBatchRespDto = paymentHistoryService.addPaymentHistories(memberId, paymentHistoryDtos);
+            return new ResponseEntity<>(paymentHistoryBatchRespDto, HttpStatus.OK);
+        } catch(IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch(DataIntegrityViolationException e) {
+            // 같은 멱등키가 다른 요청으로 동시에 등록된 경우, 다시 요청하면 중복으로 처리된다.
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("동시에 등록된 소비내역이 있습니다. 다시 시도해주세요.");
+        }
+    }
+
     // Member당 해당 날짜의 소비내역 전체를 조회하는 API
     @Operation(summary = "Member당 해당 날짜의 소비내역 전체를 조회하는 API", description = "소비내역 조회")
     @GetMapping("/date/{dateTime}")
@@ -58,6 +58,21 @@ public class ChallengeController {
         return ResponseEntity.ok(challengeService.getAllChallenges());
     }
 
+    // 챌린지 목록을 페이지 단위로 조회하는 API
+    @Operation(summary = "챌린지 목록 페이지 조회", description = "최신순 size개씩, categoryId => 1: 식비, 2: 교통비, 3: 쇼핑, 4: 기타 / status => 1: 시작 전, 2: 진행 중, 3: 종료 (생략 시 전체), 응답의 nextCursor를 before로 넘기면 다음 페이지")
+    @GetMapping("/list")
+    public ResponseEntity<?> getChallengeList(@RequestParam(value = "categoryId", required = false) Integer categoryId,
+                                              @RequestParam(value = "status", required = false) Integer status,
+                                              @RequestParam(value = "before", required = false) Long before,
+                                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            ChallengeListDto challengeListDto = challengeService.getChallengeList(categoryId, status, before, size);
+            return ResponseEntity.ok(challengeListDto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     // 카테고리 별 챌린지를 조회하는 API
     @Operation(summary = "카테고리 별 챌린지를 조회하는 API", description = "categoryId => 1: 식비, 2: 교통비, 3: 쇼핑, 4: 기타")
     @GetMapping("/category/{categoryId}")
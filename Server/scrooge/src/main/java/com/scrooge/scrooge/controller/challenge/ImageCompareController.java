@@ -1,30 +1,20 @@
 package com.scrooge.scrooge.controller.challenge;
 
 import com.scrooge.scrooge.dto.challengeDto.ImagePaths;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import com.scrooge.scrooge.service.challenge.ImageCompareClient;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.HashMap;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class ImageCompareController {
 
+    private final ImageCompareClient imageCompareClient;
+
     @PostMapping("/send-images")
     public ResponseEntity<Double> sendImages(@RequestBody ImagePaths imagePaths) {
-        String fastApiURL = "http://day6scrooge.duckdns.org:8000/compare-images";
-
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<ImagePaths> requestEntity = new HttpEntity<>(imagePaths, headers);
-
-        return restTemplate.postForEntity(fastApiURL, requestEntity, Double.class);
+        return ResponseEntity.ok(imageCompareClient.compare(imagePaths));
     }
 }
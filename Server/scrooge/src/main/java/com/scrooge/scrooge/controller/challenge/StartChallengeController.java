@@ -7,6 +7,7 @@ import com.scrooge.scrooge.service.challenge.StartChallengeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,7 +29,7 @@ public class StartChallengeController {
     private final ChallengeRepository challengeRepository;
 
     // 사용자가 참여한 시작된 챌린지에 대한 정보 조회
-    @Operation(summary = "사용자가 참여한 시작된 챌린지에 대한 정보 조회 API")
+    @Operation(summary = "사용자가 참여한 시작된 챌린지에 대한 정보 조회 API", description = "이후 팀 점수 변화는 /topic/challenge/{challengeId}/scoreboard 구독으로 받을 수 있음")
     @GetMapping("/{challengeId}/started")
     public ResponseEntity<?> getMyStartedChallenge(@PathVariable("challengeId") Long challengeId) {
         if (!challengeRepository.existsByIdAndStatus(challengeId, 2)) {
@@ -42,7 +43,8 @@ public class StartChallengeController {
     @Operation(summary = "사용자가 인증을 등록하는 API")
     @PostMapping(value = "/{challengeId}/auth", consumes = "multipart/form-data")
     public ResponseEntity<ChallengeStartRespDto> createMyChallengeAuth(@RequestHeader("Authorization") String tokenHeader, @PathVariable("challengeId") Long challengeId,
-                                                                       @RequestParam MultipartFile img) throws IOException {
+                                                                       @RequestParam MultipartFile img,
+                                                                       @RequestParam(value = "async", defaultValue = "false") boolean async) throws IOException {
         ChallengeStartRespDto challengeStartRespDto = new ChallengeStartRespDto();
 
         String token = extractToken(tokenHeader);
@@ -53,10 +55,36 @@ public class StartChallengeController {
             return ResponseEntity.ok(challengeStartRespDto);
         }
 
+        // 비동기 모드: 인증 id를 바로 돌려주고, 결과는 조회 API나 /topic/challenge-auth/{authId} 구독으로 받는다.
+        if (async) {
+            try {
+                challengeStartRespDto = startChallengeService.submitMyChallengeAuth(challengeId, jwtTokenProvider.extractMemberId(token), img);
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(challengeStartRespDto);
+            } catch (TaskRejectedException e) {
+                challengeStartRespDto.setStatus("Failed");
+                challengeStartRespDto.setMessage("인증 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(challengeStartRespDto);
+            }
+        }
+
         challengeStartRespDto = startChallengeService.createMyChallengeAuth(challengeId, jwtTokenProvider.extractMemberId(token), img);
         return ResponseEntity.ok(challengeStartRespDto);
     }
 
+    // 비동기 인증 결과 조회 API
+    @Operation(summary = "비동기로 등록한 인증의 결과 조회 API", description = "status가 Pending이면 아직 확인 중")
+    @GetMapping("/{challengeId}/auth/{authId}")
+    public ResponseEntity<?> getMyChallengeAuthResult(@RequestHeader("Authorization") String tokenHeader,
+                                                      @PathVariable("challengeId") Long challengeId,
+                                                      @PathVariable("authId") Long authId) {
+        String token = extractToken(tokenHeader);
+        if (!jwtTokenProvider.validateToken(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
+        }
+
+        return ResponseEntity.ok(startChallengeService.getMyChallengeAuthResult(challengeId, authId, jwtTokenProvider.extractMemberId(token)));
+    }
+
     // 사용자 인증 현황 조회 API
     @Operation(summary = "사용자 인증 현황 조회 API")
     @GetMapping("/{challengeId}/my-challenge/my-auth")
@@ -2,6 +2,7 @@ package com.scrooge.scrooge.controller.community;
 
 import com.scrooge.scrooge.config.jwt.JwtTokenProvider;
 import com.scrooge.scrooge.dto.communityDto.ArticleCommentDto;
+import com.scrooge.scrooge.dto.communityDto.ArticleCommentPageDto;
 import com.scrooge.scrooge.dto.communityDto.CommentContentDto;
 import com.scrooge.scrooge.service.community.CommunityCommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,6 +46,19 @@ public class CommunityCommentController {
         return ResponseEntity.ok(articleCommentDtoList);
     }
 
+    @Operation(summary = "커뮤니티 댓글 페이지 조회", description = "최신 댓글부터 size개씩 조회, 응답의 nextCursor를 before로 넘기면 다음 페이지")
+    @GetMapping("/{articleId}/comment/page")
+    public ResponseEntity<?> getCommunityCommentPage(@PathVariable("articleId") Long articleId,
+                                                     @RequestParam(value = "before", required = false) Long before,
+                                                     @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            ArticleCommentPageDto articleCommentPageDto = communityCommentService.getCommunityCommentPage(articleId, before, size);
+            return ResponseEntity.ok(articleCommentPageDto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "커뮤니티 댓글 수정")
     @PutMapping("/comment/{articleCommentId}")
     public ResponseEntity<?> updateCommunityComment(@PathVariable("articleCommentId")Long articleCommentId, @RequestBody CommentContentDto commentContentDto) {
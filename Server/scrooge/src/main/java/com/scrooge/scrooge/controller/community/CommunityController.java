@@ -6,6 +6,8 @@ import com.scrooge.scrooge.dto.SuccessResp;
 import com.scrooge.scrooge.dto.communityDto.ArticleCommentDto;
 import com.scrooge.scrooge.dto.communityDto.ArticleContentDto;
 import com.scrooge.scrooge.dto.communityDto.ArticleDto;
+import com.scrooge.scrooge.dto.communityDto.ArticleFeedDto;
+import com.scrooge.scrooge.dto.communityDto.ArticleReactionDto;
 import com.scrooge.scrooge.dto.communityDto.ArticleReviewCountDto;
 import com.scrooge.scrooge.service.community.CommunityService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,6 +56,37 @@ public class CommunityController {
         return ResponseEntity.ok(articleDtos);
     }
 
+    // 커뮤니티 피드 조회 (커서 페이지네이션)
+    @Operation(summary = "커뮤니티 피드 조회", description = "최신 글부터 size개씩 조회, 응답의 nextCursor를 cursor로 넘기면 다음 페이지 (잘못된 cursor나 size는 400)")
+    @GetMapping("/feed")
+    public ResponseEntity<?> getCommunityFeed(@RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            ArticleFeedDto articleFeedDto = communityService.getCommunityFeed(cursor, size);
+            return ResponseEntity.ok(articleFeedDto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 여러 게시글에 대한 사용자의 환호/야유 여부 조회
+    @Operation(summary = "여러 게시글에 대해 사용자가 환호/야유 했는지 한 번에 체크", description = "articleIds=1,2,3 (최대 " + CommunityService.MAX_FEED_SIZE + "개)")
+    @GetMapping("/reactions")
+    public ResponseEntity<?> getMyReactions(@RequestHeader("Authorization")String header, @RequestParam("articleIds") List<Long> articleIds) {
+        String token = jwtTokenProvider.extractToken(header);
+
+        if (!jwtTokenProvider.validateToken(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰 입니다.");
+        }
+
+        try {
+            List<ArticleReactionDto> articleReactionDtos = communityService.getMyReactions(jwtTokenProvider.extractMemberId(token), articleIds);
+            return ResponseEntity.ok(articleReactionDtos);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     // 커뮤니티 글 상세 조회
     @Operation(summary = "커뮤니티 글 상세 조회")
     @GetMapping("/{articleId}")
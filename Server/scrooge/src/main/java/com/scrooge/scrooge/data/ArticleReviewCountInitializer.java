@@ -0,0 +1,25 @@
+package com.scrooge.scrooge.data;
+
+import com.scrooge.scrooge.repository.community.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+// 서버 시작 시 게시글 환호/야유 수 컬럼을 실제 article_good / article_bad 행 수와 맞춘다.
+// (컬럼 추가 전 데이터 백필, 비정상 종료로 반영되지 못한 증감 보정)
+// 요청을 받기 시작한 뒤에 보정하면 그 사이 ArticleReviewCounter에 쌓인 증감이 한 번 더 더해지므로,
+// 모든 빈이 만들어진 직후, 웹 서버가 시작되기 전(SmartInitializingSingleton)에 실행한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleReviewCountInitializer implements SmartInitializingSingleton {
+
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int updated = articleRepository.reconcileReviewCounts();
+        log.info("게시글 평가 수 보정: {}개 게시글", updated);
+    }
+}
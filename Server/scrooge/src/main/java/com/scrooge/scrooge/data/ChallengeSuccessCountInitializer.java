@@ -0,0 +1,29 @@
+package com.scrooge.scrooge.data;
+
+import com.scrooge.scrooge.repository.challenge.ChallengeParticipantRepository;
+import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+// 서버 시작 시 모든 챌린지의 참여자별/팀별 인증 성공 횟수 컬럼을 challenge_auth 와 맞춘다.
+// (컬럼 추가 전 데이터 백필)
+// 인증 요청을 받는 중에 보정하면 저장된 인증과 아직 반영 전인 +1 이 겹쳐 두 번 세어질 수 있으므로 웹 서버가 시작되기 전에 실행한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeSuccessCountInitializer implements SmartInitializingSingleton {
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeParticipantRepository challengeParticipantRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int participants = challengeParticipantRepository.reconcileSuccessCounts(Arrays.asList(1, 2, 3));
+        int challenges = challengeRepository.reconcileTeamSuccessCounts(Arrays.asList(1, 2, 3));
+        log.info("챌린지 인증 성공 횟수 보정: 참여자 {}명, 챌린지 {}개", participants, challenges);
+    }
+}
@@ -0,0 +1,30 @@
+package com.scrooge.scrooge.data;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+// payment_history id 생성이 AUTO_INCREMENT에서 시퀀스 테이블로 바뀌었으므로
+// 기존 데이터의 최대 id보다 시퀀스가 뒤처져 있으면 앞으로 당겨준다.
+@Component
+public class PaymentHistorySequenceInitializer implements CommandLineRunner {
+
+    // PaymentHistory의 @SequenceGenerator allocationSize와 같아야 한다.
+    private static final int ALLOCATION_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        Number maxId = (Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM payment_history").getSingleResult();
+
+        entityManager.createNativeQuery("UPDATE payment_history_seq SET next_val = :nextVal WHERE next_val < :nextVal")
+                .setParameter("nextVal", maxId.longValue() + ALLOCATION_SIZE + 1)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,36 @@
+package com.scrooge.scrooge.data;
+
+import com.scrooge.scrooge.service.PaymentSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+// 집계 테이블이 비어 있는데 소비내역이 있다면 (최초 배포 시) 집계를 백필한다.
+@Component
+@RequiredArgsConstructor
+public class PaymentSummaryDataInitializer implements CommandLineRunner {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final PaymentSummaryService paymentSummaryService;
+
+    @Override
+    public void run(String... args) {
+        if(needsBackfill()) {
+            paymentSummaryService.rebuildAll();
+        }
+    }
+
+    private boolean needsBackfill() {
+        Long summaryCount = (Long) entityManager.createQuery("SELECT COUNT(s) FROM PaymentDailySummary s").getSingleResult();
+        if(summaryCount > 0) {
+            return false;
+        }
+        Long paymentCount = (Long) entityManager.createQuery("SELECT COUNT(p) FROM PaymentHistory p").getSingleResult();
+        return paymentCount > 0;
+    }
+}
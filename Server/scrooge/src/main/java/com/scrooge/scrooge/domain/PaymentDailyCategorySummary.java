@@ -0,0 +1,39 @@
+package com.scrooge.scrooge.domain;
+
+import com.scrooge.scrooge.domain.member.Member;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+// 회원별 하루 카테고리별 소비 집계
+@Entity
+@Table(name = "payment_daily_category_summary", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_daily_category_summary", columnNames = {"member_id", "summary_date", "category"})
+})
+@Data
+@NoArgsConstructor
+public class PaymentDailyCategorySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(length = 20, nullable = false)
+    private String category;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount = 0L;
+
+    @Column(name = "payment_count", nullable = false)
+    private Integer paymentCount = 0;
+
+    // 연결
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+}
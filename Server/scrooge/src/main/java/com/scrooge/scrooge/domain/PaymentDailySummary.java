@@ -0,0 +1,49 @@
+package com.scrooge.scrooge.domain;
+
+import com.scrooge.scrooge.domain.member.Member;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+// 회원별 하루 소비 집계 (소비내역 등록/수정 시 함께 갱신)
+@Entity
+@Table(name = "payment_daily_summary", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_daily_summary_member_date", columnNames = {"member_id", "summary_date"})
+})
+@Data
+@NoArgsConstructor
+public class PaymentDailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount = 0L;
+
+    @Column(name = "payment_count", nullable = false)
+    private Integer paymentCount = 0;
+
+    // 시간대별 소비 횟수 (새벽 0~6시, 오전 6~12시, 오후 12~18시, 밤 18~24시)
+    @Column(name = "dawn_count", nullable = false)
+    private Integer dawnCount = 0;
+
+    @Column(name = "morning_count", nullable = false)
+    private Integer morningCount = 0;
+
+    @Column(name = "afternoon_count", nullable = false)
+    private Integer afternoonCount = 0;
+
+    @Column(name = "night_count", nullable = false)
+    private Integer nightCount = 0;
+
+    // 연결
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+}
@@ -8,13 +8,21 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment_history")
+@Table(name = "payment_history", indexes = {
+        // 날짜/월 단위 조회는 모두 member_id + paid_at 범위 검색
+        @Index(name = "idx_payment_history_member_paid_at", columnList = "member_id, paid_at")
+}, uniqueConstraints = {
+        // 같은 알림이 두 번 전송되어도 한 번만 등록되도록
+        @UniqueConstraint(name = "uk_payment_history_member_idempotency_key", columnNames = {"member_id", "idempotency_key"})
+})
 @Data
 @NoArgsConstructor
 public class PaymentHistory {
 
+    // IDENTITY는 insert 배치가 불가능해서 시퀀스(MySQL에서는 테이블)로 id를 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_history_seq")
+    @SequenceGenerator(name = "payment_history_seq", sequenceName = "payment_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "paid_at")
@@ -36,6 +44,10 @@ public class PaymentHistory {
     @Column(name = "is_settled", columnDefinition = "boolean default false")
     private Boolean isSettled;
 
+    // 클라이언트가 알림마다 생성하는 멱등키 (없으면 중복 검사하지 않음)
+    @Column(length = 64, name = "idempotency_key")
+    private String idempotencyKey;
+
     // 연결
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="member_id")
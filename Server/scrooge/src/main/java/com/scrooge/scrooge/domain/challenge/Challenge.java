@@ -10,7 +10,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "challenge")
+@Table(name = "challenge", indexes = {
+        // 카테고리/상태별 챌린지 목록 최신순 조회
+        @Index(name = "idx_challenge_category_status_id", columnList = "category, status, id"),
+        // 종료일이 지난 진행 중 챌린지 조회 (정산)
+        @Index(name = "idx_challenge_status_end_date", columnList = "status, end_date")
+})
 @Data
 @NoArgsConstructor
 public class Challenge {
@@ -59,6 +64,14 @@ public class Challenge {
     @Column(name = "lose_team_no")
     private Integer loseTeamNo;
 
+    // 팀별 인증 성공 횟수 (인증 성공 시 UPDATE로 1씩 증가, ChallengeSuccessCountScheduler가 주기적으로 보정)
+    // 챌린지 저장 시 읽어둔 값으로 덮어쓰지 않도록 엔티티 UPDATE에서는 제외한다.
+    @Column(name = "team_zero_success_count", nullable = false, updatable = false, columnDefinition = "INTEGER default 0")
+    private int teamZeroSuccessCount;
+
+    @Column(name = "team_one_success_count", nullable = false, updatable = false, columnDefinition = "INTEGER default 0")
+    private int teamOneSuccessCount;
+
     // 다른 엔티티와 연결
     @OneToOne
     @JoinColumn(name = "challenge_master_id")
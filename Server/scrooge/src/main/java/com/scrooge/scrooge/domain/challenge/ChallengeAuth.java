@@ -23,7 +23,13 @@ public class ChallengeAuth {
     private String imgAddress;
 
     @Column(name = "is_success")
-    private Boolean isSuccess; // 성공 여부 성공하면 true, 아니면 false
+    private Boolean isSuccess; // 성공 여부 성공하면 true, 아니면 false (비동기 인증 확인 중이면 null)
+
+    @Column(name = "similarity")
+    private Double similarity; // 가장 비슷했던 예시 사진과의 유사도
+
+    @Column(length = 256, name = "example_img_address")
+    private String exampleImgAddress; // 가장 비슷했던 예시 사진
 
     /* 연결 */
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,6 +18,11 @@ public class ChallengeExampleImage {
     @Column(length = 256, name = "img_address")
     private String imgAddress;
 
+    // 업로드 시 계산한 흑백 히스토그램 (256구간 int, 인증 사진 비교에 사용)
+    @Lob
+    @Column(name = "histogram", columnDefinition = "blob")
+    private byte[] histogram;
+
     // 연결
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "challenge_id")
@@ -9,7 +9,10 @@
     import java.util.List;
 
     @Entity
-    @Table(name = "challenge_participant")
+    @Table(name = "challenge_participant", indexes = {
+            // 사용자별 참여 챌린지 조회, 참여 여부 확인
+            @Index(name = "idx_challenge_participant_member_challenge", columnList = "member_id, challenge_id")
+    })
     @Data
     @NoArgsConstructor
     public class ChallengeParticipant {
@@ -21,6 +24,10 @@
         @Column
         private Integer team;
 
+        // 인증 성공 횟수 (Challenge의 팀별 성공 횟수와 같이 증가, 엔티티 UPDATE에서는 제외)
+        @Column(name = "success_count", nullable = false, updatable = false, columnDefinition = "INTEGER default 0")
+        private int successCount;
+
         // 연결
         @ManyToOne(fetch = FetchType.LAZY)
         @JoinColumn(name = "member_id")
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "article")
+@Table(name = "article", indexes = {
+        // 피드 커서 페이지네이션 (created_at, id) 내림차순 조회
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 public class Article {
@@ -30,6 +33,14 @@ public class Article {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    // 환호/야유 수 (ArticleReviewCounter가 주기적으로 반영)
+    // 게시글 수정 시 읽어둔 값으로 덮어쓰지 않도록 엔티티 UPDATE에서는 제외한다.
+    @Column(name = "good_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long goodCount;
+
+    @Column(name = "bad_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long badCount;
+
     /* 연결 */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
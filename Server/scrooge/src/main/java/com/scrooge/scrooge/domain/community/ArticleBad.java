@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "article_bad")
+@Table(name = "article_bad", indexes = {
+        // 사용자별 환호/야유 여부 조회 (member_id, article_id IN (...))
+        @Index(name = "idx_article_bad_member_article", columnList = "member_id, article_id")
+})
 @Data
 @NoArgsConstructor
 public class ArticleBad {
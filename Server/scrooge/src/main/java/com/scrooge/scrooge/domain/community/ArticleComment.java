@@ -9,7 +9,10 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "article_comment")
+@Table(name = "article_comment", indexes = {
+        // 게시글별 댓글 최신순 페이지 조회
+        @Index(name = "idx_article_comment_article_id", columnList = "article_id, id")
+})
 @Data
 @NoArgsConstructor
 public class ArticleComment {
@@ -14,6 +14,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(name = "member", indexes = {
+        // 최대 스트릭 순위(상위 %) 계산용
+        @Index(name = "idx_member_max_streak", columnList = "max_streak")
+})
 @Data
 @NamedEntityGraph(name = "member.withRelatedEntities", attributeNodes = {
         @NamedAttributeNode("mainAvatar"),
@@ -62,7 +66,8 @@ public class Member {
     @Column(name = "weekly_goal", columnDefinition = "int default 0")
     private Integer weeklyGoal;
 
-    @Column(name = "weekly_consum", columnDefinition = "int default 0")
+    // 소비내역 등록/수정 시 UPDATE로만 증감한다. (회원 정보를 저장할 때 읽어둔 값으로 덮어쓰지 않도록 엔티티 UPDATE에서는 제외)
+    @Column(name = "weekly_consum", updatable = false, columnDefinition = "int default 0")
     private Integer weeklyConsum;
     // int -> Integer 로 변경하는게 좋을 것 같다.
 
@@ -84,6 +89,13 @@ public class Member {
     @OneToMany(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
     private List<PaymentHistory> paymentHistories = new ArrayList<>();
 
+    // 소비 일일 집계
+    @OneToMany(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
+    private List<PaymentDailySummary> paymentDailySummaries = new ArrayList<>();
+
+    @OneToMany(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
+    private List<PaymentDailyCategorySummary> paymentDailyCategorySummaries = new ArrayList<>();
+
     @OneToMany(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
     private List<MemberOwningAvatar> memberOwningAvatars = new ArrayList<>();
 
@@ -0,0 +1,38 @@
+package com.scrooge.scrooge.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 업로드 이미지의 해상도별 주소
+// 업로드 시 긴 변 기준 128/400/800px 이미지를 {uuid}_w{size} 로 함께 저장하고, 대표 주소는 800px 이미지 주소다.
+public class ImageVariants {
+
+    public static final int[] SIZES = {128, 400, 800};
+    public static final int MAIN_SIZE = 800;
+
+    private ImageVariants() {
+    }
+
+    public static String key(String uuid, int size) {
+        return uuid + "_w" + size;
+    }
+
+    // 대표 주소로부터 {"128": 주소, "400": 주소, "800": 주소} 를 만든다.
+    // 해상도별 이미지가 없는 예전 업로드는 모든 크기에 원본 주소를 넣는다.
+    public static Map<String, String> of(String address) {
+        if (address == null) {
+            return null;
+        }
+
+        String mainSuffix = "_w" + MAIN_SIZE;
+        boolean hasVariants = address.endsWith(mainSuffix);
+        String base = hasVariants ? address.substring(0, address.length() - mainSuffix.length()) : null;
+
+        Map<String, String> variants = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            variants.put(String.valueOf(size), hasVariants ? base + "_w" + size : address);
+        }
+        return Collections.unmodifiableMap(variants);
+    }
+}
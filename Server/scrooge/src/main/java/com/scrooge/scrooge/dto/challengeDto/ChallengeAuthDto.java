@@ -1,11 +1,13 @@
 package com.scrooge.scrooge.dto.challengeDto;
 
 import com.scrooge.scrooge.domain.challenge.ChallengeAuth;
+import com.scrooge.scrooge.dto.ImageVariants;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -14,6 +16,7 @@ public class ChallengeAuthDto {
     private Long id;
     private LocalDateTime createdAt;
     private String imageAddress;
+    private Map<String, String> imageVariants; // 해상도별 이미지 주소 ("128", "400", "800")
     private Boolean isSuccess;
 
     /* 연결 */
@@ -24,6 +27,7 @@ public class ChallengeAuthDto {
         this.id = challengeAuth.getId();
         this.createdAt = challengeAuth.getCreatedAt();
         this.imageAddress = challengeAuth.getImgAddress();
+        this.imageVariants = ImageVariants.of(challengeAuth.getImgAddress());
         this.isSuccess = challengeAuth.getIsSuccess();
         this.challengeParticipantId = challengeAuth.getChallengeParticipant().getId();
     }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+
 @Data
 @NoArgsConstructor
 public class ChallengeEndResDto {
@@ -34,4 +36,18 @@ public class ChallengeEndResDto {
         this.isWin = isWin;
     }
 
+    // 마이 챌린지 조회용 (ChallengeParticipantRepository 프로젝션 쿼리에서 참여자 수, 대표 이미지, 내 팀까지 한 번에 채운다)
+    public ChallengeEndResDto(Long id, String category, String title, Integer status, Long currentParticipants,
+                              Integer minParticipants, String period, String mainImageAddress, Integer team, Integer winTeamNo) {
+        this.id = id;
+        this.category = category;
+        this.title = title;
+        this.status = status;
+        this.currentParticipants = currentParticipants.intValue();
+        this.minParticipants = minParticipants;
+        this.mainImageAddress = mainImageAddress;
+        this.period = period;
+        this.isWin = winTeamNo != null && Objects.equals(team, winTeamNo);
+    }
+
 }
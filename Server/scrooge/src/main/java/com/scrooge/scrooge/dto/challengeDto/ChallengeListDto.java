@@ -0,0 +1,24 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 챌린지 목록 한 페이지 (nextCursor를 다음 요청의 before로 넘기면 이어서 조회)
+@Data
+@NoArgsConstructor
+public class ChallengeListDto {
+
+    private List<ChallengeResDto> challenges;
+    private Long nextCursor;
+    private Boolean hasNext;
+
+    @Builder
+    public ChallengeListDto(List<ChallengeResDto> challenges, Long nextCursor, Boolean hasNext) {
+        this.challenges = challenges;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
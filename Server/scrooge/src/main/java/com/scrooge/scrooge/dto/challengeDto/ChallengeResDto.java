@@ -1,11 +1,13 @@
 package com.scrooge.scrooge.dto.challengeDto;
 
 import com.scrooge.scrooge.domain.challenge.Challenge;
+import com.scrooge.scrooge.dto.ImageVariants;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
@@ -18,6 +20,7 @@ public class ChallengeResDto {
     private Integer minParticipants;
     private String period;
     private String mainImageAddress;
+    private Map<String, String> mainImageVariants; // 해상도별 이미지 주소 ("128", "400", "800")
 
     @Builder
     public ChallengeResDto(Challenge challenge) {
@@ -28,6 +31,21 @@ public class ChallengeResDto {
         this.currentParticipants = challenge.getChallengeParticipantList().size();
         this.minParticipants = challenge.getMinParticipants();
         this.mainImageAddress = challenge.getChallengeExampleImageList().get(0).getImgAddress();
+        this.mainImageVariants = ImageVariants.of(this.mainImageAddress);
         this.period = challenge.getPeriod();
     }
+
+    // 목록 조회용 (ChallengeRepository 프로젝션 쿼리에서 참여자 수, 대표 이미지까지 한 번에 채운다)
+    public ChallengeResDto(Long id, String category, String title, Integer status, Long currentParticipants,
+                           Integer minParticipants, String period, String mainImageAddress) {
+        this.id = id;
+        this.category = category;
+        this.title = title;
+        this.status = status;
+        this.currentParticipants = currentParticipants.intValue();
+        this.minParticipants = minParticipants;
+        this.mainImageAddress = mainImageAddress;
+        this.mainImageVariants = ImageVariants.of(mainImageAddress);
+        this.period = period;
+    }
 }
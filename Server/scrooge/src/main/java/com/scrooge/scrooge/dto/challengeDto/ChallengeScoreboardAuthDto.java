@@ -0,0 +1,24 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 스코어보드에 실어 보내는 인증 성공 한 건
+@Data
+@NoArgsConstructor
+public class ChallengeScoreboardAuthDto {
+
+    private Long authId;
+    private Long memberId;
+    private Integer team;
+    private String authImageAddress;
+
+    @Builder
+    public ChallengeScoreboardAuthDto(Long authId, Long memberId, Integer team, String authImageAddress) {
+        this.authId = authId;
+        this.memberId = memberId;
+        this.team = team;
+        this.authImageAddress = authImageAddress;
+    }
+}
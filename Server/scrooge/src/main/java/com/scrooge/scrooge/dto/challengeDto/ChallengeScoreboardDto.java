@@ -0,0 +1,26 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// /topic/challenge/{challengeId}/scoreboard 로 보내는 팀 점수 + 지난 전송 이후 인증 성공 목록
+@Data
+@NoArgsConstructor
+public class ChallengeScoreboardDto {
+
+    private Long challengeId;
+    private Integer teamZeroAuthCount;
+    private Integer teamOneAuthCount;
+    private List<ChallengeScoreboardAuthDto> auths;
+
+    @Builder
+    public ChallengeScoreboardDto(Long challengeId, Integer teamZeroAuthCount, Integer teamOneAuthCount, List<ChallengeScoreboardAuthDto> auths) {
+        this.challengeId = challengeId;
+        this.teamZeroAuthCount = teamZeroAuthCount;
+        this.teamOneAuthCount = teamOneAuthCount;
+        this.auths = auths;
+    }
+}
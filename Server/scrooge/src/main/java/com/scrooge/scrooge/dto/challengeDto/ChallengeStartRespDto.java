@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ChallengeStartRespDto {
 
+    private Long authId;
     private Double result;
     private String exampleImageAddress;
     private String status;
@@ -0,0 +1,22 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 챌린지 한 팀의 인증 성공 횟수 합계 (정산용)
+@Data
+@NoArgsConstructor
+public class ChallengeTeamScoreDto {
+
+    private Long challengeId;
+    private Integer team;
+    private Long successCount;
+
+    @Builder
+    public ChallengeTeamScoreDto(Long challengeId, Integer team, Long successCount) {
+        this.challengeId = challengeId;
+        this.team = team;
+        this.successCount = successCount;
+    }
+}
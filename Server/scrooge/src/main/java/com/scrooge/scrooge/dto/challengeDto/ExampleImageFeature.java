@@ -0,0 +1,12 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 예시 사진의 주소와 미리 계산해둔 흑백 히스토그램
+@Data
+@AllArgsConstructor
+public class ExampleImageFeature {
+    private String imgAddress;
+    private double[] histogram;
+}
@@ -0,0 +1,12 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 예시 사진 한 장과 인증 사진의 유사도 비교 결과
+@Data
+@AllArgsConstructor
+public class ImageCompareResult {
+    private String exampleImageAddress;
+    private Double result;
+}
@@ -6,7 +6,7 @@ import lombok.Data;
 
 @Data
 public class TeamMemberAuth {
-    private boolean isSuccess;
+    private Boolean isSuccess; // 확인 중인 인증이면 null
     private String authImageAddress;
 
     @Builder
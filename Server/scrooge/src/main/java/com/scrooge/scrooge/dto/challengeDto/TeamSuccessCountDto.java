@@ -0,0 +1,20 @@
+package com.scrooge.scrooge.dto.challengeDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 챌린지 팀별 인증 성공 횟수
+@Data
+@NoArgsConstructor
+public class TeamSuccessCountDto {
+
+    private Integer teamZeroSuccessCount;
+    private Integer teamOneSuccessCount;
+
+    @Builder
+    public TeamSuccessCountDto(Integer teamZeroSuccessCount, Integer teamOneSuccessCount) {
+        this.teamZeroSuccessCount = teamZeroSuccessCount;
+        this.teamOneSuccessCount = teamOneSuccessCount;
+    }
+}
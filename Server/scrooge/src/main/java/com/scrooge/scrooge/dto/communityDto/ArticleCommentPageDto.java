@@ -0,0 +1,24 @@
+package com.scrooge.scrooge.dto.communityDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 게시글 댓글 한 페이지 (nextCursor를 다음 요청의 before로 넘기면 이어서 조회)
+@Data
+@NoArgsConstructor
+public class ArticleCommentPageDto {
+
+    private List<ArticleCommentDto> comments;
+    private Long nextCursor;
+    private Boolean hasNext;
+
+    @Builder
+    public ArticleCommentPageDto(List<ArticleCommentDto> comments, Long nextCursor, Boolean hasNext) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
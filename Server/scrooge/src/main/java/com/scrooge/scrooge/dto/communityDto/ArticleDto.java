@@ -2,12 +2,14 @@ package com.scrooge.scrooge.dto.communityDto;
 
 import com.scrooge.scrooge.domain.community.Article;
 import com.scrooge.scrooge.domain.member.Member;
+import com.scrooge.scrooge.dto.ImageVariants;
 import com.scrooge.scrooge.dto.member.ArticleMemberDto;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -16,7 +18,10 @@ public class ArticleDto {
     private Long id;
     private String content;
     private String imgAdress;
+    private Map<String, String> imgVariants; // 해상도별 이미지 주소 ("128", "400", "800")
     private LocalDateTime createdAt;
+    private Long goodCount;
+    private Long badCount;
 
     /*연결*/
     private Long memberId;
@@ -29,7 +34,10 @@ public class ArticleDto {
         this.id = article.getId();
         this.content = article.getContent();
         this.imgAdress = article.getImgAdress();
+        this.imgVariants = ImageVariants.of(article.getImgAdress());
         this.createdAt = article.getCreatedAt();
+        this.goodCount = article.getGoodCount();
+        this.badCount = article.getBadCount();
         this.memberId = article.getMember().getId();
         this.memberNickname = article.getMember().getNickname();
         this.memberAvatarAddress = article.getMember().getMainAvatar().getId().toString();
@@ -0,0 +1,24 @@
+package com.scrooge.scrooge.dto.communityDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커뮤니티 피드 한 페이지 (nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회)
+@Data
+@NoArgsConstructor
+public class ArticleFeedDto {
+
+    private List<ArticleDto> articles;
+    private String nextCursor;
+    private Boolean hasNext;
+
+    @Builder
+    public ArticleFeedDto(List<ArticleDto> articles, String nextCursor, Boolean hasNext) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
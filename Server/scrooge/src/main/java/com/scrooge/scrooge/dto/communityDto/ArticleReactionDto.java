@@ -0,0 +1,22 @@
+package com.scrooge.scrooge.dto.communityDto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 사용자가 게시글에 환호/야유를 했는지 여부
+@Data
+@NoArgsConstructor
+public class ArticleReactionDto {
+
+    private Long articleId;
+    private boolean isGood;
+    private boolean isBad;
+
+    @Builder
+    public ArticleReactionDto(Long articleId, boolean isGood, boolean isBad) {
+        this.articleId = articleId;
+        this.isGood = isGood;
+        this.isBad = isBad;
+    }
+}
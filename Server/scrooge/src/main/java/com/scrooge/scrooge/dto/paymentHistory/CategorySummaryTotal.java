@@ -0,0 +1,9 @@
+package com.scrooge.scrooge.dto.paymentHistory;
+
+// 기간별 카테고리 집계 합계 (PaymentDailyCategorySummaryRepository 조회 결과)
+public interface CategorySummaryTotal {
+
+    String getCategory();
+    Long getTotalAmount();
+    Long getPaymentCount();
+}
@@ -0,0 +1,18 @@
+package com.scrooge.scrooge.dto.paymentHistory;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class PaymentHistoryBatchRespDto {
+
+    private Integer success;
+    private Integer count; // 새로 등록된 소비내역 수
+    private Integer duplicatedCount; // 이미 등록되어 있어서 건너뛴 소비내역 수
+    private List<Long> ids = new ArrayList<>(); // 요청 순서대로 등록된 소비내역 id
+
+}
@@ -15,6 +15,7 @@ public class PaymentHistoryDto {
     private String usedAt;
     private String cardName;
     private Boolean isSettled; // 정산 완료 여부
+    private String idempotencyKey; // 중복 등록 방지용 키 (클라이언트 생성)
 
     /*연결*/
     private Long memberId;
@@ -29,6 +30,7 @@ public class PaymentHistoryDto {
         this.cardName = paymentHistory.getCardName();
 
         this.isSettled = paymentHistory.getIsSettled();
+        this.idempotencyKey = paymentHistory.getIdempotencyKey();
 
         this.memberId = paymentHistory.getMember().getId();
     }
@@ -11,5 +11,6 @@ public class PaymentHistoryRespDto {
 
     private Long id;
     private Integer success;
+    private Boolean duplicated; // 이미 등록된 멱등키로 요청된 경우 true
 
 }
@@ -0,0 +1,12 @@
+package com.scrooge.scrooge.dto.paymentHistory;
+
+// 기간별 일일 집계 합계 (PaymentDailySummaryRepository 조회 결과)
+public interface PaymentSummaryTotal {
+
+    Long getTotalAmount();
+    Long getPaymentCount();
+    Long getDawnCount();
+    Long getMorningCount();
+    Long getAfternoonCount();
+    Long getNightCount();
+}
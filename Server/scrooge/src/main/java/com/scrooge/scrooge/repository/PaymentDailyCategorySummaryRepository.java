@@ -0,0 +1,46 @@
+package com.scrooge.scrooge.repository;
+
+import com.scrooge.scrooge.domain.PaymentDailyCategorySummary;
+import com.scrooge.scrooge.dto.paymentHistory.CategorySummaryTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PaymentDailyCategorySummaryRepository extends JpaRepository<PaymentDailyCategorySummary, Long> {
+
+    // [start, end) 기간의 카테고리별 집계 합계
+    @Query("SELECT c.category AS category, SUM(c.totalAmount) AS totalAmount, SUM(c.paymentCount) AS paymentCount " +
+            "FROM PaymentDailyCategorySummary c WHERE c.member.id = :memberId AND c.summaryDate >= :start AND c.summaryDate < :end " +
+            "GROUP BY c.category")
+    List<CategorySummaryTotal> sumByMemberIdAndDateRange(@Param("memberId") Long memberId, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    // 해당 날짜/카테고리의 집계 행이 없으면 만들고, 있으면 증감분만 더한다.
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_category_summary (member_id, summary_date, category, total_amount, payment_count) " +
+            "VALUES (:memberId, :summaryDate, :category, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), payment_count = payment_count + VALUES(payment_count)", nativeQuery = true)
+    void upsertDelta(@Param("memberId") Long memberId, @Param("summaryDate") LocalDate summaryDate, @Param("category") String category,
+                     @Param("amount") long amount, @Param("count") int count);
+
+    @Modifying
+    @Query(value = "DELETE FROM payment_daily_category_summary WHERE member_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM payment_daily_category_summary", nativeQuery = true)
+    int deleteAllInBulk();
+
+    // 원본 소비내역으로부터 집계 재생성 (memberId가 null이면 전체)
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_category_summary (member_id, summary_date, category, total_amount, payment_count) " +
+            "SELECT member_id, DATE(paid_at), category, SUM(amount), COUNT(*) " +
+            "FROM payment_history WHERE paid_at IS NOT NULL AND member_id IS NOT NULL AND category IS NOT NULL AND (:memberId IS NULL OR member_id = :memberId) " +
+            "GROUP BY member_id, DATE(paid_at), category", nativeQuery = true)
+    int rebuildFromPaymentHistory(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,57 @@
+package com.scrooge.scrooge.repository;
+
+import com.scrooge.scrooge.domain.PaymentDailySummary;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentSummaryTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface PaymentDailySummaryRepository extends JpaRepository<PaymentDailySummary, Long> {
+
+    Optional<PaymentDailySummary> findByMemberIdAndSummaryDate(Long memberId, LocalDate summaryDate);
+
+    // [start, end) 기간의 일일 집계 합계
+    @Query("SELECT COALESCE(SUM(s.totalAmount), 0) AS totalAmount, COALESCE(SUM(s.paymentCount), 0) AS paymentCount, " +
+            "COALESCE(SUM(s.dawnCount), 0) AS dawnCount, COALESCE(SUM(s.morningCount), 0) AS morningCount, " +
+            "COALESCE(SUM(s.afternoonCount), 0) AS afternoonCount, COALESCE(SUM(s.nightCount), 0) AS nightCount " +
+            "FROM PaymentDailySummary s WHERE s.member.id = :memberId AND s.summaryDate >= :start AND s.summaryDate < :end")
+    PaymentSummaryTotal sumByMemberIdAndDateRange(@Param("memberId") Long memberId, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    // 해당 날짜의 집계 행이 없으면 만들고, 있으면 증감분만 더한다.
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_summary (member_id, summary_date, total_amount, payment_count, dawn_count, morning_count, afternoon_count, night_count) " +
+            "VALUES (:memberId, :summaryDate, :amount, :count, :dawn, :morning, :afternoon, :night) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), payment_count = payment_count + VALUES(payment_count), " +
+            "dawn_count = dawn_count + VALUES(dawn_count), morning_count = morning_count + VALUES(morning_count), " +
+            "afternoon_count = afternoon_count + VALUES(afternoon_count), night_count = night_count + VALUES(night_count)", nativeQuery = true)
+    void upsertDelta(@Param("memberId") Long memberId, @Param("summaryDate") LocalDate summaryDate,
+                     @Param("amount") long amount, @Param("count") int count,
+                     @Param("dawn") int dawn, @Param("morning") int morning,
+                     @Param("afternoon") int afternoon, @Param("night") int night);
+
+    @Modifying
+    @Query(value = "DELETE FROM payment_daily_summary WHERE member_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM payment_daily_summary", nativeQuery = true)
+    int deleteAllInBulk();
+
+    // 원본 소비내역으로부터 집계 재생성 (memberId가 null이면 전체)
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_summary (member_id, summary_date, total_amount, payment_count, dawn_count, morning_count, afternoon_count, night_count) " +
+            "SELECT member_id, DATE(paid_at), SUM(amount), COUNT(*), " +
+            "SUM(CASE WHEN HOUR(paid_at) < 6 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN HOUR(paid_at) >= 6 AND HOUR(paid_at) < 12 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN HOUR(paid_at) >= 12 AND HOUR(paid_at) < 18 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN HOUR(paid_at) >= 18 THEN 1 ELSE 0 END) " +
+            "FROM payment_history WHERE paid_at IS NOT NULL AND member_id IS NOT NULL AND (:memberId IS NULL OR member_id = :memberId) " +
+            "GROUP BY member_id, DATE(paid_at)", nativeQuery = true)
+    int rebuildFromPaymentHistory(@Param("memberId") Long memberId);
+}
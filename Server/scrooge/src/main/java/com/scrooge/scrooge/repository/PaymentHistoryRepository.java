@@ -3,9 +3,12 @@ package com.scrooge.scrooge.repository;
 import com.scrooge.scrooge.domain.PaymentHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory, Long> {
     @Query("SELECT pmh FROM PaymentHistory pmh WHERE pmh.member.id = ?1")
@@ -13,6 +16,22 @@ public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory,
     List<PaymentHistory> findByMemberIdAndPaidAtBetween(Long memberId, LocalDateTime todayStart, LocalDateTime todayEnd);
     PaymentHistory findByIdAndMemberId(Long paymentHistoryId, Long memberId);
 
+    Optional<PaymentHistory> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+
+    List<PaymentHistory> findByMemberIdAndIdempotencyKeyIn(Long memberId, Collection<String> idempotencyKeys);
+
     @Query("SELECT COUNT(pmh) FROM PaymentHistory pmh WHERE pmh.member.id = :memberId")
     Integer countByMemberId(Long memberId);
+
+    // [start, end) 구간의 소비내역 조회 (member_id, paid_at) 인덱스 사용
+    @Query("SELECT pmh FROM PaymentHistory pmh WHERE pmh.member.id = :memberId AND pmh.paidAt >= :start AND pmh.paidAt < :end")
+    List<PaymentHistory> findByMemberIdAndPaidAtRange(@Param("memberId") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 구간의 소비 금액 합계
+    @Query("SELECT COALESCE(SUM(pmh.amount), 0) FROM PaymentHistory pmh WHERE pmh.member.id = :memberId AND pmh.paidAt >= :start AND pmh.paidAt < :end")
+    Long sumAmountByMemberIdAndPaidAtRange(@Param("memberId") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 구간의 소비내역 개수
+    @Query("SELECT COUNT(pmh) FROM PaymentHistory pmh WHERE pmh.member.id = :memberId AND pmh.paidAt >= :start AND pmh.paidAt < :end")
+    Long countByMemberIdAndPaidAtRange(@Param("memberId") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 }
@@ -2,8 +2,12 @@ package com.scrooge.scrooge.repository.challenge;
 
 import com.scrooge.scrooge.domain.challenge.ChallengeAuth;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChallengeAuthRepository extends JpaRepository<ChallengeAuth, Long> {
@@ -21,4 +25,23 @@ public interface ChallengeAuthRepository extends JpaRepository<ChallengeAuth, Lo
 
     // challengeParticipantId에 맞는 인증 데이터 모두 가져오기
     List<ChallengeAuth> findByChallengeParticipantId(Long challengeParticipantId);
+
+    // 기준 시각 전에 등록되고 아직 확인 중(null)인 인증 id
+    @Query("SELECT ca.id FROM ChallengeAuth ca WHERE ca.isSuccess IS NULL AND ca.createdAt < :createdBefore")
+    List<Long> findPendingAuthIdsCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+
+    // 확인 중(null)인 인증에만 결과를 저장 (이미 결과가 정해졌으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChallengeAuth ca SET ca.isSuccess = :isSuccess, ca.imgAddress = :imgAddress, " +
+            "ca.similarity = :similarity, ca.exampleImgAddress = :exampleImgAddress " +
+            "WHERE ca.id = :id AND ca.isSuccess IS NULL")
+    int completePendingAuth(@Param("id") Long id, @Param("isSuccess") boolean isSuccess, @Param("imgAddress") String imgAddress,
+                            @Param("similarity") Double similarity, @Param("exampleImgAddress") String exampleImgAddress);
+
+    // 확인 중(null)인 인증을 실패로 처리 (이미 결과가 정해졌으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChallengeAuth ca SET ca.isSuccess = false WHERE ca.id = :id AND ca.isSuccess IS NULL")
+    int failPendingAuth(@Param("id") Long id);
 }
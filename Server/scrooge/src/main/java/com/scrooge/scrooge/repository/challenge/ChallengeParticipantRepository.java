@@ -1,10 +1,16 @@
 package com.scrooge.scrooge.repository.challenge;
 
 import com.scrooge.scrooge.domain.challenge.ChallengeParticipant;
+import com.scrooge.scrooge.dto.challengeDto.ChallengeEndResDto;
+import com.scrooge.scrooge.dto.challengeDto.ChallengeResDto;
+import com.scrooge.scrooge.dto.challengeDto.ChallengeTeamScoreDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChallengeParticipantRepository extends JpaRepository<ChallengeParticipant, Long> {
@@ -26,4 +32,63 @@ public interface ChallengeParticipantRepository extends JpaRepository<ChallengeP
     List<ChallengeParticipant> findByChallengeIdAndTeam(Long challengeId, Integer team);
 
     boolean existsByChallengeIdAndMemberId(Long challengeId, Long memberId);
+
+    // 사용자가 참여한 챌린지 중 status인 챌린지 (참여자 수, 첫 번째 예시 이미지를 서브쿼리로 함께 조회)
+    @Query("SELECT new com.scrooge.scrooge.dto.challengeDto.ChallengeResDto(" +
+            "c.id, c.category, c.title, c.status, " +
+            "(SELECT COUNT(cp2) FROM ChallengeParticipant cp2 WHERE cp2.challenge = c), " +
+            "c.minParticipants, c.period, " +
+            "(SELECT ci.imgAddress FROM ChallengeExampleImage ci WHERE ci.id = " +
+            "(SELECT MIN(ci2.id) FROM ChallengeExampleImage ci2 WHERE ci2.challenge = c))) " +
+            "FROM ChallengeParticipant cp JOIN cp.challenge c " +
+            "WHERE cp.member.id = :memberId AND c.status = :status ORDER BY cp.id")
+    List<ChallengeResDto> findMyChallenges(@Param("memberId") Long memberId, @Param("status") Integer status);
+
+    // 사용자가 참여한 챌린지 중 status인 챌린지 + 내 팀의 승리 여부
+    @Query("SELECT new com.scrooge.scrooge.dto.challengeDto.ChallengeEndResDto(" +
+            "c.id, c.category, c.title, c.status, " +
+            "(SELECT COUNT(cp2) FROM ChallengeParticipant cp2 WHERE cp2.challenge = c), " +
+            "c.minParticipants, c.period, " +
+            "(SELECT ci.imgAddress FROM ChallengeExampleImage ci WHERE ci.id = " +
+            "(SELECT MIN(ci2.id) FROM ChallengeExampleImage ci2 WHERE ci2.challenge = c)), " +
+            "cp.team, c.winTeamNo) " +
+            "FROM ChallengeParticipant cp JOIN cp.challenge c " +
+            "WHERE cp.member.id = :memberId AND c.status = :status ORDER BY cp.id")
+    List<ChallengeEndResDto> findMyChallengesWithResult(@Param("memberId") Long memberId, @Param("status") Integer status);
+
+    // 인증 성공 시 참여자 성공 횟수 +1
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChallengeParticipant cp SET cp.successCount = cp.successCount + 1 WHERE cp.id = :challengeParticipantId")
+    int incrementSuccessCount(@Param("challengeParticipantId") Long challengeParticipantId);
+
+    // 참여자별 성공 횟수를 challenge_auth 성공 행 수로 다시 계산 (값이 다른 참여자만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE challenge_participant cp " +
+            "JOIN challenge c ON c.id = cp.challenge_id " +
+            "LEFT JOIN (SELECT challenge_participant_id, COUNT(*) AS cnt FROM challenge_auth " +
+            "WHERE is_success = true GROUP BY challenge_participant_id) a ON a.challenge_participant_id = cp.id " +
+            "SET cp.success_count = COALESCE(a.cnt, 0) " +
+            "WHERE c.status IN (:statuses) AND cp.success_count <> COALESCE(a.cnt, 0)", nativeQuery = true)
+    int reconcileSuccessCounts(@Param("statuses") Collection<Integer> statuses);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE challenge_participant cp " +
+            "LEFT JOIN (SELECT ca.challenge_participant_id, COUNT(*) AS cnt FROM challenge_auth ca " +
+            "JOIN challenge_participant p ON p.id = ca.challenge_participant_id " +
+            "WHERE p.challenge_id IN (:challengeIds) AND ca.is_success = true GROUP BY ca.challenge_participant_id) a " +
+            "ON a.challenge_participant_id = cp.id " +
+            "SET cp.success_count = COALESCE(a.cnt, 0) " +
+            "WHERE cp.challenge_id IN (:challengeIds) AND cp.success_count <> COALESCE(a.cnt, 0)", nativeQuery = true)
+    int reconcileSuccessCountsByChallengeIdIn(@Param("challengeIds") Collection<Long> challengeIds);
+
+    // 챌린지별, 팀별 성공 횟수 합계
+    @Query("SELECT new com.scrooge.scrooge.dto.challengeDto.ChallengeTeamScoreDto(cp.challenge.id, cp.team, SUM(cp.successCount)) " +
+            "FROM ChallengeParticipant cp WHERE cp.challenge.id IN :challengeIds GROUP BY cp.challenge.id, cp.team")
+    List<ChallengeTeamScoreDto> sumSuccessCountByChallengeIdIn(@Param("challengeIds") Collection<Long> challengeIds);
+
+    @Query("SELECT cp.member.id FROM ChallengeParticipant cp WHERE cp.challenge.id = :challengeId AND cp.team = :team")
+    List<Long> findMemberIdsByChallengeIdAndTeam(@Param("challengeId") Long challengeId, @Param("team") Integer team);
 }
@@ -1,9 +1,17 @@
 package com.scrooge.scrooge.repository.challenge;
 
 import com.scrooge.scrooge.domain.challenge.Challenge;
+import com.scrooge.scrooge.dto.challengeDto.ChallengeResDto;
+import com.scrooge.scrooge.dto.challengeDto.TeamSuccessCountDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
@@ -13,4 +21,62 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
     boolean existsByIdAndChallengeMasterId(Long challengeId, Long challengeMasterId);
 
     boolean existsByIdAndStatus(Long challengeId, Integer status);
+
+    // 챌린지 목록 최신순 (참여자 수, 첫 번째 예시 이미지를 서브쿼리로 함께 조회해 페이지당 쿼리 한 번)
+    // category, status가 null이면 조건에서 제외, beforeId가 null이면 첫 페이지
+    @Query("SELECT new com.scrooge.scrooge.dto.challengeDto.ChallengeResDto(" +
+            "c.id, c.category, c.title, c.status, " +
+            "(SELECT COUNT(cp) FROM ChallengeParticipant cp WHERE cp.challenge = c), " +
+            "c.minParticipants, c.period, " +
+            "(SELECT ci.imgAddress FROM ChallengeExampleImage ci WHERE ci.id = " +
+            "(SELECT MIN(ci2.id) FROM ChallengeExampleImage ci2 WHERE ci2.challenge = c))) " +
+            "FROM Challenge c " +
+            "WHERE (:category IS NULL OR c.category = :category) " +
+            "AND (:status IS NULL OR c.status = :status) " +
+            "AND (:beforeId IS NULL OR c.id < :beforeId) " +
+            "ORDER BY c.id DESC")
+    List<ChallengeResDto> findChallengeList(@Param("category") String category, @Param("status") Integer status,
+                                            @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 인증 성공 시 팀 성공 횟수 +1
+    @Transactional
+    @Modifying
+    @Query("UPDATE Challenge c SET c.teamZeroSuccessCount = c.teamZeroSuccessCount + 1 WHERE c.id = :challengeId")
+    int incrementTeamZeroSuccessCount(@Param("challengeId") Long challengeId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Challenge c SET c.teamOneSuccessCount = c.teamOneSuccessCount + 1 WHERE c.id = :challengeId")
+    int incrementTeamOneSuccessCount(@Param("challengeId") Long challengeId);
+
+    // DB에 저장된 팀별 성공 횟수 (영속성 컨텍스트에 있는 엔티티 값이 아닌 최신 값)
+    @Query("SELECT new com.scrooge.scrooge.dto.challengeDto.TeamSuccessCountDto(c.teamZeroSuccessCount, c.teamOneSuccessCount) " +
+            "FROM Challenge c WHERE c.id = :challengeId")
+    TeamSuccessCountDto findTeamSuccessCounts(@Param("challengeId") Long challengeId);
+
+    // 팀별 성공 횟수를 참여자별 성공 횟수의 합으로 다시 계산 (참여자별 횟수를 먼저 보정한 뒤 호출, 값이 다른 챌린지만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE challenge c " +
+            "LEFT JOIN (SELECT challenge_id, " +
+            "SUM(CASE WHEN team = 0 THEN success_count ELSE 0 END) AS zero_cnt, " +
+            "SUM(CASE WHEN team = 1 THEN success_count ELSE 0 END) AS one_cnt " +
+            "FROM challenge_participant GROUP BY challenge_id) t ON t.challenge_id = c.id " +
+            "SET c.team_zero_success_count = COALESCE(t.zero_cnt, 0), c.team_one_success_count = COALESCE(t.one_cnt, 0) " +
+            "WHERE c.status IN (:statuses) " +
+            "AND (c.team_zero_success_count <> COALESCE(t.zero_cnt, 0) OR c.team_one_success_count <> COALESCE(t.one_cnt, 0))", nativeQuery = true)
+    int reconcileTeamSuccessCounts(@Param("statuses") Collection<Integer> statuses);
+
+    // 종료일(endDate)이 now 이전인 진행 중(status 2) 챌린지 id, lastId 다음부터
+    @Query("SELECT c.id FROM Challenge c WHERE c.status = 2 AND c.endDate < :now AND c.id > :lastId ORDER BY c.id")
+    List<Long> findExpiredChallengeIds(@Param("now") LocalDateTime now, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 진행 중인 챌린지를 종료로 바꾸고 승패와 최종 팀 점수를 저장 (이미 정산된 챌린지면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Challenge c SET c.status = 3, c.winTeamNo = :winTeamNo, c.loseTeamNo = :loseTeamNo, " +
+            "c.teamZeroSuccessCount = :teamZeroSuccessCount, c.teamOneSuccessCount = :teamOneSuccessCount " +
+            "WHERE c.id = :challengeId AND c.status = 2")
+    int settle(@Param("challengeId") Long challengeId, @Param("winTeamNo") Integer winTeamNo, @Param("loseTeamNo") Integer loseTeamNo,
+               @Param("teamZeroSuccessCount") int teamZeroSuccessCount, @Param("teamOneSuccessCount") int teamOneSuccessCount);
 }
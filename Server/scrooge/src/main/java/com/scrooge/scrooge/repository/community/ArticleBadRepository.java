@@ -3,7 +3,10 @@ package com.scrooge.scrooge.repository.community;
 import com.scrooge.scrooge.domain.community.ArticleBad;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleBadRepository extends JpaRepository<ArticleBad, Long> {
@@ -12,7 +15,11 @@ public interface ArticleBadRepository extends JpaRepository<ArticleBad, Long> {
 
     boolean existsByArticleIdAndMemberId(Long articleId, Long memberId);
 
-    void deleteByArticleIdAndMemberId(Long articleId, Long memberId);
+    long deleteByArticleIdAndMemberId(Long articleId, Long memberId);
 
     Integer countByArticleId(Long articleId);
+
+    // articleIds 중 사용자가 야유한 게시글 id
+    @Query("SELECT r.article.id FROM ArticleBad r WHERE r.member.id = :memberId AND r.article.id IN :articleIds")
+    List<Long> findArticleIdsByMemberIdAndArticleIdIn(@Param("memberId") Long memberId, @Param("articleIds") Collection<Long> articleIds);
 }
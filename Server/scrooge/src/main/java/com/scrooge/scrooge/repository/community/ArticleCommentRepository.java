@@ -1,7 +1,7 @@
 package com.scrooge.scrooge.repository.community;
 
 import com.scrooge.scrooge.domain.community.ArticleComment;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +9,14 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ArticleCommentRepository extends JpaRepository<ArticleComment, Long> {
-    @Query("SELECT ac FROM ArticleComment ac WHERE ac.article.id = :articleId")
-    List<ArticleComment> findByArticleId(Sort sort, Long articleId);
+
+    // 게시글의 댓글 최신순 (article_id, id) 인덱스 사용, 작성자와 대표 아바타를 한 번에 가져온다
+    @Query("SELECT ac FROM ArticleComment ac JOIN FETCH ac.member m LEFT JOIN FETCH m.mainAvatar " +
+            "WHERE ac.article.id = :articleId ORDER BY ac.id DESC")
+    List<ArticleComment> findByArticleId(@Param("articleId") Long articleId, Pageable pageable);
+
+    // beforeId보다 오래된 댓글 (다음 페이지)
+    @Query("SELECT ac FROM ArticleComment ac JOIN FETCH ac.member m LEFT JOIN FETCH m.mainAvatar " +
+            "WHERE ac.article.id = :articleId AND ac.id < :beforeId ORDER BY ac.id DESC")
+    List<ArticleComment> findByArticleIdBefore(@Param("articleId") Long articleId, @Param("beforeId") Long beforeId, Pageable pageable);
 }
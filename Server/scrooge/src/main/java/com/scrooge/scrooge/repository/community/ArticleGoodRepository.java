@@ -3,8 +3,11 @@ package com.scrooge.scrooge.repository.community;
 import com.scrooge.scrooge.domain.community.ArticleGood;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,9 +15,13 @@ public interface ArticleGoodRepository extends JpaRepository<ArticleGood, Long>
     Optional<ArticleGood> findByArticleIdAndMemberId(Long articleId, Long memberId);
 
 
-    void deleteByArticleIdAndMemberId(Long articleId, Long memberId);
+    long deleteByArticleIdAndMemberId(Long articleId, Long memberId);
 
     boolean existsByArticleIdAndMemberId(Long articleId, Long memberId);
 
     Integer countByArticleId(Long articleId);
+
+    // articleIds 중 사용자가 환호한 게시글 id
+    @Query("SELECT r.article.id FROM ArticleGood r WHERE r.member.id = :memberId AND r.article.id IN :articleIds")
+    List<Long> findArticleIdsByMemberIdAndArticleIdIn(@Param("memberId") Long memberId, @Param("articleIds") Collection<Long> articleIds);
 }
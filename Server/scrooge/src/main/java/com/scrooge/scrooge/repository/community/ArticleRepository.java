@@ -1,9 +1,46 @@
 package com.scrooge.scrooge.repository.community;
 
 import com.scrooge.scrooge.domain.community.Article;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
+
+    // 작성자와 대표 아바타를 한 번에 가져온다 (게시글마다 추가 조회 방지)
+    @Query("SELECT a FROM Article a JOIN FETCH a.member m LEFT JOIN FETCH m.mainAvatar ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findAllWithMember();
+
+    // 피드 첫 페이지 (created_at, id) 인덱스 사용
+    @Query("SELECT a FROM Article a JOIN FETCH a.member m LEFT JOIN FETCH m.mainAvatar ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findFeed(Pageable pageable);
+
+    // 커서 (createdAt, id) 다음 페이지
+    @Query("SELECT a FROM Article a JOIN FETCH a.member m LEFT JOIN FETCH m.mainAvatar " +
+            "WHERE a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 모아둔 환호/야유 증감분 반영 (ArticleReviewCounter)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Article a SET a.goodCount = a.goodCount + :goodDelta, a.badCount = a.badCount + :badDelta WHERE a.id = :articleId")
+    int addReviewCounts(@Param("articleId") Long articleId, @Param("goodDelta") long goodDelta, @Param("badDelta") long badDelta);
+
+    // 환호/야유 수를 실제 행 수로 다시 계산 (값이 다른 게시글만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE article a " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM article_good GROUP BY article_id) g ON g.article_id = a.id " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM article_bad GROUP BY article_id) b ON b.article_id = a.id " +
+            "SET a.good_count = COALESCE(g.cnt, 0), a.bad_count = COALESCE(b.cnt, 0) " +
+            "WHERE a.good_count <> COALESCE(g.cnt, 0) OR a.bad_count <> COALESCE(b.cnt, 0)", nativeQuery = true)
+    int reconcileReviewCounts();
 }
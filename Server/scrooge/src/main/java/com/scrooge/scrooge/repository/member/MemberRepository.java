@@ -3,9 +3,13 @@ package com.scrooge.scrooge.repository.member;
 import com.scrooge.scrooge.domain.member.Member;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +30,51 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByIdAndIsSettlementDone(Long memberId, boolean isSettlementDone);
 
-    @Query("SELECT m FROM Member m ORDER BY m.maxStreak DESC")
-    List<Member> findByOrderByMaxStreakDesc();
+    // maxStreak보다 큰 최대 스트릭을 가진 회원 수 (idx_member_max_streak 범위 검색)
+    long countByMaxStreakGreaterThan(Integer maxStreak);
+
+    // 주간 소비량을 DB에서 원자적으로 증감 (읽고-더하고-저장하는 사이의 갱신 유실 방지)
+    @Modifying
+    @Query("UPDATE Member m SET m.weeklyConsum = COALESCE(m.weeklyConsum, 0) + :delta WHERE m.id = :memberId")
+    int addWeeklyConsum(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Member m")
+    Long findMaxId();
+
+    // (fromId, toId] 구간 회원의 주간 소비량/목표 초기화 (스케줄러에서 구간마다 별도 트랜잭션으로 실행)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.weeklyConsum = 0, m.weeklyGoal = 0 WHERE m.id > :fromId AND m.id <= :toId")
+    int resetWeeklyInIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // (fromId, toId] 구간에서 어제 정산하지 않은 회원의 스트릭 초기화
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.streak = 0 " +
+            "WHERE m.id > :fromId AND m.id <= :toId AND (m.isSettlementDone = false OR m.isSettlementDone IS NULL)")
+    int resetStreakOfUnsettledInIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // (fromId, toId] 구간의 일일 정산 여부 초기화
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.isSettlementDone = false " +
+            "WHERE m.id > :fromId AND m.id <= :toId AND (m.isSettlementDone = true OR m.isSettlementDone IS NULL)")
+    int clearSettlementDoneInIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 여러 회원의 경험치를 한 번에 증가
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.exp = COALESCE(m.exp, 0) + :exp WHERE m.id IN :memberIds")
+    int addExp(@Param("memberIds") Collection<Long> memberIds, @Param("exp") int exp);
+
+    // 경험치가 현재 레벨의 required_exp 이상인 회원을 한 단계 레벨업 (LevelService.levelUp과 같은 규칙, 다음 레벨이 없으면 그대로)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE member m " +
+            "JOIN level cur_level ON cur_level.id = m.level_id " +
+            "JOIN level next_level ON next_level.id = m.level_id + 1 " +
+            "SET m.exp = m.exp - cur_level.required_exp, m.remain_gacha = COALESCE(m.remain_gacha, 0) + next_level.gacha, " +
+            "m.level_id = next_level.id " +
+            "WHERE m.id IN (:memberIds) AND m.exp >= cur_level.required_exp", nativeQuery = true)
+    int levelUp(@Param("memberIds") Collection<Long> memberIds);
 }
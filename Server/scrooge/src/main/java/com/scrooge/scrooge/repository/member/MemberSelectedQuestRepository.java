@@ -2,7 +2,11 @@ package com.scrooge.scrooge.repository.member;
 
 import com.scrooge.scrooge.domain.member.MemberSelectedQuest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -24,4 +28,13 @@ public interface MemberSelectedQuestRepository extends JpaRepository<MemberSelec
     boolean existsByMemberId(Long memberId);
 
     boolean existsByMemberIdAndQuestIdAndIsSelected(Long memberId, Long questId, boolean isSelected);
+
+    @Query("SELECT COALESCE(MAX(q.id), 0) FROM MemberSelectedQuest q")
+    Long findMaxId();
+
+    // maxId 이하의 행을 limit개씩 삭제 (주간 초기화 이후 새로 선택한 퀘스트는 남긴다)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM member_selected_quest WHERE id <= :maxId LIMIT :limit", nativeQuery = true)
+    int deleteChunkUpToId(@Param("maxId") Long maxId, @Param("limit") int limit);
 }
@@ -0,0 +1,155 @@
+package com.scrooge.scrooge.service;
+
+import com.scrooge.scrooge.dto.ImageVariants;
+import com.scrooge.scrooge.service.storage.BlobOutputStream;
+import com.scrooge.scrooge.service.storage.BlobStore;
+import org.imgscalr.Scalr;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+// 게시글/챌린지 예시/챌린지 인증 사진 업로드 공통 처리
+// 1. 필요한 해상도만큼만 건너뛰며 디코딩 (원본 전체를 메모리에 올리지 않는다)
+// 2. 긴 변 800px로 리사이즈
+// 3. 128/400/800px JPEG로 인코딩하면서 바로 스토리지로 전송 (중간 byte[] 없음)
+@Service
+public class ImageUploadService {
+
+    public static final int IMAGE_SIZE = ImageVariants.MAIN_SIZE;
+
+    private final BlobStore blobStore;
+    private final float jpegQuality;
+
+    // 동시에 디코딩하는 이미지 수 제한 (큰 사진이 몰릴 때 힙이 터지지 않도록)
+    private final Semaphore decodePermits;
+
+    // JPEG 인코더는 만들 때 비용이 있어서 재사용한다.
+    private final BlockingQueue<ImageWriter> jpegWriters;
+
+    public ImageUploadService(BlobStore blobStore,
+                              @Value("${image.upload.jpeg-quality:0.8}") float jpegQuality,
+                              @Value("${image.upload.max-concurrent-decodes:4}") int maxConcurrentDecodes) {
+        this.blobStore = blobStore;
+        this.jpegQuality = jpegQuality;
+        this.decodePermits = new Semaphore(maxConcurrentDecodes);
+        this.jpegWriters = new ArrayBlockingQueue<>(maxConcurrentDecodes);
+    }
+
+    // 사진을 리사이즈해서 올리고 주소를 반환
+    public String uploadResized(MultipartFile img) throws IOException {
+        try (InputStream inputStream = img.getInputStream()) {
+            return upload(decode(inputStream));
+        }
+    }
+
+    // 긴 변이 IMAGE_SIZE가 되도록 디코딩
+    public BufferedImage decode(InputStream inputStream) throws IOException {
+        try {
+            decodePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("이미지 디코딩 대기 중 중단되었습니다.");
+        }
+
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+
+                // 긴 변이 IMAGE_SIZE 이상으로 남는 만큼만 픽셀을 건너뛰며 읽는다.
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longSide / IMAGE_SIZE);
+                ImageReadParam readParam = reader.getDefaultReadParam();
+                readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return Scalr.resize(reader.read(0, readParam), IMAGE_SIZE);
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    // 디코딩한 이미지 하나로 해상도별(ImageVariants.SIZES) JPEG을 만들어 스토리지에 바로 쓰고, 대표(800px) 주소를 반환한다.
+    // WebP는 JDK ImageIO에 인코더가 없어서 만들지 않는다.
+    public String upload(BufferedImage image) throws IOException {
+        String uuid = UUID.randomUUID().toString();
+        for (int size : ImageVariants.SIZES) {
+            BufferedImage variant = size < Math.max(image.getWidth(), image.getHeight())
+                    ? Scalr.resize(image, size)
+                    : image;
+            try (BlobOutputStream outputStream = blobStore.openOutputStream(ImageVariants.key(uuid, size), "image/jpeg")) {
+                writeJpeg(variant, outputStream);
+                outputStream.commit();
+            }
+        }
+
+        return blobStore.getAddress(ImageVariants.key(uuid, ImageVariants.MAIN_SIZE));
+    }
+
+    private void writeJpeg(BufferedImage image, OutputStream outputStream) throws IOException {
+        ImageWriter writer = jpegWriters.poll();
+        if (writer == null) {
+            writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        }
+
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+
+            ImageWriteParam writeParam = writer.getDefaultWriteParam();
+            writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            writeParam.setCompressionQuality(jpegQuality);
+
+            writer.write(null, new IIOImage(toRgb(image), null, null), writeParam);
+        } finally {
+            writer.reset();
+            if (!jpegWriters.offer(writer)) {
+                writer.dispose();
+            }
+        }
+    }
+
+    // JPEG는 투명도를 지원하지 않으므로 PNG 등은 흰 배경 RGB로 바꿔서 인코딩
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+
+        BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgbImage.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgbImage;
+    }
+}
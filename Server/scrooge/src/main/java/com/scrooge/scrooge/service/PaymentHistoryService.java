@@ -3,7 +3,10 @@ package com.scrooge.scrooge.service;
 import com.scrooge.scrooge.domain.PaymentHistory;
 import com.scrooge.scrooge.domain.member.Member;
 import com.scrooge.scrooge.dto.DateTimeReqDto;
+import com.scrooge.scrooge.dto.paymentHistory.CategorySummaryTotal;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryBatchRespDto;
 import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryDto;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentSummaryTotal;
 import com.scrooge.scrooge.dto.member.MemberDto;
 import com.scrooge.scrooge.dto.paymentHistory.RecapDto;
 import com.scrooge.scrooge.repository.LevelRepository;
@@ -16,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.webjars.NotFoundException;
 
 import javax.persistence.EntityNotFoundException;
@@ -23,13 +28,17 @@ import javax.transaction.Transactional;
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,37 +53,38 @@ public class PaymentHistoryService {
     private final MemberOwningBadgeRepository memberOwningBadgeRepository;
 
     private final LevelService levelService;
+    private final PaymentSummaryService paymentSummaryService;
+    private final StreakRankingService streakRankingService;
+    private final PaymentIdempotencyCache paymentIdempotencyCache;
+
+    // 한 번에 등록할 수 있는 최대 소비내역 수
+    public static final int MAX_BATCH_SIZE = 500;
 
     @Transactional
     public PaymentHistoryRespDto addPaymentHistory(Long memberId, PaymentHistoryDto paymentHistoryDto) {
-        PaymentHistory paymentHistory = new PaymentHistory();
-        PaymentHistoryRespDto paymentHistoryRespDto = new PaymentHistoryRespDto();
-
-        paymentHistory.setAmount(paymentHistoryDto.getAmount());
-        paymentHistory.setUsedAt(paymentHistoryDto.getUsedAt());
-        paymentHistory.setCardName(paymentHistoryDto.getCardName());
-        paymentHistory.setIsSettled(false);
-
-        if(paymentHistoryDto.getPaidAt() == null) {
-            paymentHistory.setPaidAt(LocalDateTime.now());
-        }
-        else {
-            paymentHistory.setPaidAt(paymentHistoryDto.getPaidAt());
+        // 이미 등록된 알림이면 다시 등록하지 않고 기존 id 반환
+        if(paymentHistoryDto.getIdempotencyKey() != null) {
+            Long duplicatedId = findDuplicatedPaymentHistoryId(memberId, paymentHistoryDto.getIdempotencyKey());
+            if(duplicatedId != null) {
+                return duplicatedPaymentHistoryResp(duplicatedId);
+            }
         }
 
-        /* 연결 */
+        PaymentHistory paymentHistory = toNewPaymentHistory(paymentHistoryDto);
+        PaymentHistoryRespDto paymentHistoryRespDto = new PaymentHistoryRespDto();
 
-        // memberId에 맞는 member 가져오기
-        Optional<Member> member = memberRepository.findById(memberId);
-        if(member.isPresent()) {
-            paymentHistory.setMember(member.get());
+        /* 연결 */
 
-            member.get().setWeeklyConsum(member.get().getWeeklyConsum() + paymentHistoryDto.getAmount()); // 주간 소비량에 소비내역 가격 더해주기
-            memberRepository.save(member.get());
+        // 주간 소비량에 소비내역 가격 더해주기 (갱신된 행이 없으면 없는 member)
+        if(memberRepository.addWeeklyConsum(memberId, paymentHistoryDto.getAmount()) > 0) {
+            paymentHistory.setMember(memberRepository.getReferenceById(memberId));
 
             paymentHistoryRepository.save(paymentHistory);
+            paymentSummaryService.applyPayment(memberId, paymentHistory.getPaidAt(), paymentHistory.getCategory(), paymentHistory.getAmount());
+            rememberIdempotencyKeysAfterCommit(memberId, Collections.singletonList(paymentHistory));
 
             paymentHistoryRespDto.setSuccess(1);
+            paymentHistoryRespDto.setDuplicated(false);
             paymentHistoryRespDto.setId(paymentHistory.getId());
 
             return paymentHistoryRespDto;
@@ -84,19 +94,155 @@ public class PaymentHistoryService {
         }
     }
 
+    // 소비내역 여러 건을 한 번에 등록 (오프라인 동안 쌓인 알림 일괄 전송)
+    @Transactional
+    public PaymentHistoryBatchRespDto addPaymentHistories(Long memberId, List<PaymentHistoryDto> paymentHistoryDtos) {
+        if(paymentHistoryDtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 " + MAX_BATCH_SIZE + "건까지 등록할 수 있습니다.");
+        }
+
+        if(!memberRepository.existsById(memberId)) {
+            throw new NotFoundException(memberId + "에 해당하는 member를 찾을 수 없습니다.");
+        }
+        Member member = memberRepository.getReferenceById(memberId);
+
+        // 1. 이미 등록된 멱등키 찾기 (캐시 -> DB IN 쿼리 한 번)
+        Map<String, Long> existingIds = new HashMap<>();
+        Set<String> uncachedKeys = new HashSet<>();
+        for(PaymentHistoryDto paymentHistoryDto : paymentHistoryDtos) {
+            String idempotencyKey = paymentHistoryDto.getIdempotencyKey();
+            if(idempotencyKey == null) continue;
+
+            Long cachedId = paymentIdempotencyCache.get(memberId, idempotencyKey);
+            if(cachedId != null) {
+                existingIds.put(idempotencyKey, cachedId);
+            }
+            else {
+                uncachedKeys.add(idempotencyKey);
+            }
+        }
+        if(!uncachedKeys.isEmpty()) {
+            for(PaymentHistory existing : paymentHistoryRepository.findByMemberIdAndIdempotencyKeyIn(memberId, uncachedKeys)) {
+                existingIds.put(existing.getIdempotencyKey(), existing.getId());
+                paymentIdempotencyCache.put(memberId, existing.getIdempotencyKey(), existing.getId());
+            }
+        }
+
+        // 2. 새 소비내역만 만들기 (요청 안에서 같은 키가 반복되면 첫 번째만 등록)
+        List<PaymentHistory> paymentHistories = new ArrayList<>();
+        List<PaymentHistory> resultOrder = new ArrayList<>(); // 요청 순서대로 등록된(또는 기존) 소비내역
+        Map<String, PaymentHistory> createdByKey = new HashMap<>();
+        int duplicatedCount = 0;
+        int totalAmount = 0;
+        for(PaymentHistoryDto paymentHistoryDto : paymentHistoryDtos) {
+            String idempotencyKey = paymentHistoryDto.getIdempotencyKey();
+            if(idempotencyKey != null && (existingIds.containsKey(idempotencyKey) || createdByKey.containsKey(idempotencyKey))) {
+                PaymentHistory duplicated = createdByKey.get(idempotencyKey);
+                if(duplicated == null) {
+                    duplicated = new PaymentHistory();
+                    duplicated.setId(existingIds.get(idempotencyKey));
+                }
+                resultOrder.add(duplicated);
+                duplicatedCount++;
+                continue;
+            }
+
+            PaymentHistory paymentHistory = toNewPaymentHistory(paymentHistoryDto);
+            paymentHistory.setMember(member);
+            paymentHistories.add(paymentHistory);
+            resultOrder.add(paymentHistory);
+            if(idempotencyKey != null) {
+                createdByKey.put(idempotencyKey, paymentHistory);
+            }
+            totalAmount += paymentHistory.getAmount();
+        }
+
+        if(!paymentHistories.isEmpty()) {
+            // id를 시퀀스로 미리 받으므로 hibernate.jdbc.batch_size 단위로 묶여서 insert 된다.
+            paymentHistoryRepository.saveAll(paymentHistories);
+
+            // 주간 소비량은 요청 전체 합계로 한 번만 갱신
+            memberRepository.addWeeklyConsum(memberId, totalAmount);
+
+            paymentSummaryService.applyPayments(memberId, paymentHistories);
+            rememberIdempotencyKeysAfterCommit(memberId, paymentHistories);
+        }
+
+        PaymentHistoryBatchRespDto paymentHistoryBatchRespDto = new PaymentHistoryBatchRespDto();
+        paymentHistoryBatchRespDto.setSuccess(1);
+        paymentHistoryBatchRespDto.setCount(paymentHistories.size());
+        paymentHistoryBatchRespDto.setDuplicatedCount(duplicatedCount);
+        paymentHistoryBatchRespDto.setIds(resultOrder.stream()
+                .map(PaymentHistory::getId)
+                .collect(Collectors.toList()));
+        return paymentHistoryBatchRespDto;
+    }
+
+    // 멱등키로 이미 등록된 소비내역 id 찾기 (캐시에 없을 때만 DB 조회)
+    public Long findDuplicatedPaymentHistoryId(Long memberId, String idempotencyKey) {
+        Long cachedId = paymentIdempotencyCache.get(memberId, idempotencyKey);
+        if(cachedId != null) {
+            return cachedId;
+        }
+
+        Optional<PaymentHistory> existing = paymentHistoryRepository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey);
+        if(existing.isPresent()) {
+            paymentIdempotencyCache.put(memberId, idempotencyKey, existing.get().getId());
+            return existing.get().getId();
+        }
+        return null;
+    }
+
+    public PaymentHistoryRespDto duplicatedPaymentHistoryResp(Long paymentHistoryId) {
+        PaymentHistoryRespDto paymentHistoryRespDto = new PaymentHistoryRespDto();
+        paymentHistoryRespDto.setSuccess(1);
+        paymentHistoryRespDto.setDuplicated(true);
+        paymentHistoryRespDto.setId(paymentHistoryId);
+        return paymentHistoryRespDto;
+    }
+
+    // 롤백된 등록이 캐시에 남지 않도록 커밋 이후에 멱등키를 캐시에 올린다.
+    private void rememberIdempotencyKeysAfterCommit(Long memberId, List<PaymentHistory> paymentHistories) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for(PaymentHistory paymentHistory : paymentHistories) {
+                    if(paymentHistory.getIdempotencyKey() != null) {
+                        paymentIdempotencyCache.put(memberId, paymentHistory.getIdempotencyKey(), paymentHistory.getId());
+                    }
+                }
+            }
+        });
+    }
+
+    private PaymentHistory toNewPaymentHistory(PaymentHistoryDto paymentHistoryDto) {
+        PaymentHistory paymentHistory = new PaymentHistory();
+
+        paymentHistory.setAmount(paymentHistoryDto.getAmount());
+        paymentHistory.setUsedAt(paymentHistoryDto.getUsedAt());
+        paymentHistory.setCardName(paymentHistoryDto.getCardName());
+        paymentHistory.setIsSettled(false);
+        paymentHistory.setIdempotencyKey(paymentHistoryDto.getIdempotencyKey());
+
+        if(paymentHistoryDto.getPaidAt() == null) {
+            paymentHistory.setPaidAt(LocalDateTime.now());
+        }
+        else {
+            paymentHistory.setPaidAt(paymentHistoryDto.getPaidAt());
+        }
+
+        return paymentHistory;
+    }
+
     // userId에 따른 전체 소비 내역 조회
     public List<PaymentHistoryDto> getPaymentHistoryByMemberId(Long memberId, String dateTime) {
 
         // 날짜 문자열을 LocalDate로 변환하기
         LocalDate date = LocalDate.parse(dateTime);
 
-        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberId(memberId);
+        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberIdAndPaidAtRange(memberId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 
-        List<PaymentHistory> filteredPaymentHistories = paymentHistories.stream()
-                .filter(paymentHistory -> paymentHistory.getPaidAt().toLocalDate().equals(date))
-                .collect(Collectors.toList());
-
-        return filteredPaymentHistories.stream()
+        return paymentHistories.stream()
                 .map(PaymentHistoryDto::new)
                 .collect(Collectors.toList());
     }
@@ -107,14 +253,11 @@ public class PaymentHistoryService {
         // 입력받은 날짜 문자열을 LocalDate로 변환
         LocalDate date = LocalDate.parse(dateStr + "-01");
 
-        // 해당 월의 시작일과 종료일 계산하기
-        LocalDate startDate = YearMonth.of(date.getYear(), date.getMonth()).atDay(1);
-        LocalDate endDate = YearMonth.of(date.getYear(), date.getMonth()).atEndOfMonth();
+        // 해당 월의 시작일과 다음 달 시작일 계산하기
+        YearMonth yearMonth = YearMonth.of(date.getYear(), date.getMonth());
 
-        LocalDateTime startDateTime = LocalDateTime.of(startDate, LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(endDate, LocalTime.MAX);
-
-        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberIdAndPaidAtBetween(memberId, startDateTime, endDateTime);
+        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberIdAndPaidAtRange(memberId,
+                yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
         return paymentHistories.stream()
                 .map(PaymentHistoryDto::new)
                 .collect(Collectors.toList());
@@ -122,10 +265,9 @@ public class PaymentHistoryService {
 
     // userId의 오늘 전체 소비 내역 조회
     public List<PaymentHistoryDto> getPaymentHistoryByMemberIdToday(Long memberId) {
-        LocalDateTime todayStart = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime todayEnd = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
+        LocalDate today = LocalDate.now();
 
-        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberIdAndPaidAtBetween(memberId, todayStart, todayEnd);
+        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberIdAndPaidAtRange(memberId, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
         return paymentHistories.stream()
                 .map(PaymentHistoryDto::new)
                 .collect(Collectors.toList());
@@ -141,6 +283,7 @@ public class PaymentHistoryService {
 
 
     // 소비내역을 수정하는 비즈니스 로직
+    @Transactional
     public PaymentHistory updatePaymentHistory(Long memberId, PaymentHistoryDto paymentHistoryDto) throws AccessDeniedException {
         PaymentHistory paymentHistory = paymentHistoryRepository.findById(paymentHistoryDto.getId())
                 .orElseThrow(() -> new EntityNotFoundException("PaymentHistory not found with id: " + paymentHistoryDto.getId()));
@@ -152,17 +295,20 @@ public class PaymentHistoryService {
 
         // 이전 : paymentHistory 수정 후 : paymentHistoryDto
         if(!paymentHistory.getAmount().equals(paymentHistoryDto.getAmount())) {
-            // memberId에 맞는 member 가져오기
-            Optional<Member> member = memberRepository.findById(memberId);
-            if(member.isPresent()) {
-                member.get().setWeeklyConsum(member.get().getWeeklyConsum() - paymentHistory.getAmount() + paymentHistoryDto.getAmount());
-                memberRepository.save(member.get());
-            }
-            else {
+            // 주간 소비량에 변경된 금액만큼만 반영
+            int delta = paymentHistoryDto.getAmount() - paymentHistory.getAmount();
+            if(memberRepository.addWeeklyConsum(memberId, delta) == 0) {
                 throw new NotFoundException(memberId + "를 가진 사용자는 존재하지 않습니다.");
             }
         }
 
+        // 일일 집계에 변경분 반영
+        if(paymentHistory.getPaidAt() != null) {
+            paymentSummaryService.applyUpdate(memberId, paymentHistory.getPaidAt(),
+                    paymentHistory.getCategory(), paymentHistory.getAmount(),
+                    paymentHistoryDto.getCategory(), paymentHistoryDto.getAmount());
+        }
+
         // 변경사항 반영
         paymentHistory.setAmount(paymentHistoryDto.getAmount());
         paymentHistory.setCardName(paymentHistoryDto.getCardName());
@@ -220,38 +366,13 @@ public class PaymentHistoryService {
 
     // 하루 전체 소비 금액 조회하는 API
     public Integer getTodayTotalConsumption(Long memberId) {
-        LocalDateTime todayStart = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime todayEnd = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-
-        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberIdAndPaidAtBetween(memberId, todayStart, todayEnd);
-
-        Integer todayTotalConsumption = 0;
-
-        for(PaymentHistory paymentHistory : paymentHistories) {
-            todayTotalConsumption += paymentHistory.getAmount();
-        }
-
-        return todayTotalConsumption;
+        return paymentSummaryService.getDailyTotal(memberId, LocalDate.now());
     }
 
     // 날짜를 입력 받아서 소비 금액 조회하는 API
     public Integer getDateTotalConsumption(Long memberId, String dateTime) {
 
-        LocalDate date = LocalDate.parse(dateTime);
-
-        List<PaymentHistory> paymentHistories = paymentHistoryRepository.findByMemberId(memberId);
-
-        List<PaymentHistory> filterPaymentHistories = paymentHistories.stream()
-                .filter(paymentHistory -> paymentHistory.getPaidAt().toLocalDate().equals(date))
-                .collect(Collectors.toList());
-
-        Integer total = 0;
-
-        for(PaymentHistory paymentHistory : filterPaymentHistories) {
-            total += paymentHistory.getAmount();
-        }
-
-        return total;
+        return paymentSummaryService.getDailyTotal(memberId, LocalDate.parse(dateTime));
     }
 
 
@@ -262,40 +383,23 @@ public class PaymentHistoryService {
 
         LocalDate date = LocalDate.now();
 
-        // 해당 월의 시작일과 종료일 계산하기
-        LocalDate startDate = YearMonth.of(date.getYear(), date.getMonth()).atDay(1);
-        LocalDate endDate = YearMonth.of(date.getYear(), date.getMonth()).atEndOfMonth();
-
-        LocalDateTime startDateTime = LocalDateTime.of(startDate, LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(endDate, LocalTime.MAX);
-
-        // 저번 달의 시작일과 종료일 계산하기
-        YearMonth previousMonth = YearMonth.from(date).minusMonths(1);
+        YearMonth thisMonth = YearMonth.from(date);
 
-        LocalDate previousMonthStartDate = previousMonth.atDay(1);
-        LocalDate previousMonthEndDate = previousMonth.atEndOfMonth();
+        // 이번 달, 저번 달 모두 일일 집계 테이블에서 합산
+        PaymentSummaryTotal thisMonthSummary = paymentSummaryService.getMonthlyTotal(memberId, thisMonth);
+        PaymentSummaryTotal lastMonthSummary = paymentSummaryService.getMonthlyTotal(memberId, thisMonth.minusMonths(1));
 
-        LocalDateTime previousMonthStartDateTime = LocalDateTime.of(previousMonthStartDate, LocalTime.MIN);
-        LocalDateTime previousMonthEndDateTime = LocalDateTime.of(previousMonthEndDate, LocalTime.MAX);
-
-        List<PaymentHistory> paymentHistoryList = paymentHistoryRepository.findByMemberIdAndPaidAtBetween(memberId, startDateTime, endDateTime);
-        List<PaymentHistory> lastPaymentHistoryList = paymentHistoryRepository.findByMemberIdAndPaidAtBetween(memberId, previousMonthStartDateTime, previousMonthEndDateTime);
-
-        if(lastPaymentHistoryList.size() == 0) {
+        if(lastMonthSummary.getPaymentCount() == 0) {
             recapDto.setHasLastMonthPaymentHistory(false);
         }
         else {
             recapDto.setHasLastMonthPaymentHistory(true);
-            // 저번 달 소비 총합 계산
-            int lastMonthTotal = 0;
-            for(PaymentHistory paymentHistory : lastPaymentHistoryList) {
-                lastMonthTotal += paymentHistory.getAmount();
-            }
-            recapDto.setLastMonthTotal(lastMonthTotal);
+            // 저번 달 소비 총합
+            recapDto.setLastMonthTotal(lastMonthSummary.getTotalAmount().intValue());
         }
 
 
-        if(paymentHistoryList.size() == 0) {
+        if(thisMonthSummary.getPaymentCount() == 0) {
             // 소비내역이 없음 ,, 정산 내역 없다고 false로 반환!
             recapDto.setHasPaymentHistory(false);
             return recapDto;
@@ -307,39 +411,20 @@ public class PaymentHistoryService {
             Map<String, Integer> categoryFrequency = new HashMap<>();
             // 1-2. 돈을 많이 쓴 카테고리
             Map<String, Integer> highSpendingCategory = new HashMap<>();
-            // 2. 시간대 처리
-            Map<String, Integer> timeOfDayFrequency = new HashMap<>();
-            // 3. 총합 계산
-            int thisMonthTotal = 0;
-            for(PaymentHistory paymentHistory : paymentHistoryList) {
-                // 카테고리
-                String category = null;
-                if(paymentHistory.getCategory() != null){
-                    category = paymentHistory.getCategory();
-                    categoryFrequency.put(category, categoryFrequency.getOrDefault(category, 0) + 1);
-                    highSpendingCategory.put(category, highSpendingCategory.getOrDefault(category, 0) + paymentHistory.getAmount());
-                }
-
-                // 시간대
-                LocalDateTime paidAt = paymentHistory.getPaidAt();
-                int hour = paidAt.getHour();
-                if(hour < 6) {
-                    timeOfDayFrequency.put("새벽", timeOfDayFrequency.getOrDefault("새벽", 0) + 1);
-                }
-                else if(hour < 12) {
-                    timeOfDayFrequency.put("오전", timeOfDayFrequency.getOrDefault("오전", 0) + 1);
-                }
-                else if(hour < 18) {
-                    timeOfDayFrequency.put("오후", timeOfDayFrequency.getOrDefault("오후", 0) + 1);
-                }
-                else {
-                    timeOfDayFrequency.put("밤", timeOfDayFrequency.getOrDefault("밤", 0) + 1);
-                }
-
-                // 총 합 계산
-                thisMonthTotal += paymentHistory.getAmount();
+            for(CategorySummaryTotal categorySummary : paymentSummaryService.getMonthlyCategoryTotals(memberId, thisMonth)) {
+                categoryFrequency.put(categorySummary.getCategory(), categorySummary.getPaymentCount().intValue());
+                highSpendingCategory.put(categorySummary.getCategory(), categorySummary.getTotalAmount().intValue());
             }
-            recapDto.setThisMonthTotal(thisMonthTotal);
+
+            // 2. 시간대 처리
+            Map<String, Integer> timeOfDayFrequency = new LinkedHashMap<>();
+            timeOfDayFrequency.put("새벽", thisMonthSummary.getDawnCount().intValue());
+            timeOfDayFrequency.put("오전", thisMonthSummary.getMorningCount().intValue());
+            timeOfDayFrequency.put("오후", thisMonthSummary.getAfternoonCount().intValue());
+            timeOfDayFrequency.put("밤", thisMonthSummary.getNightCount().intValue());
+
+            // 3. 총합
+            recapDto.setThisMonthTotal(thisMonthSummary.getTotalAmount().intValue());
             if(recapDto.getLastMonthTotal() != null) {
                 recapDto.setTotalDifference(recapDto.getLastMonthTotal() - recapDto.getThisMonthTotal());
             }
@@ -383,31 +468,13 @@ public class PaymentHistoryService {
 
             // 3. 최대 스트릭
             // member 가져오기
-            Optional<Member> member = memberRepository.findWithRelatedEntitiesById(memberId);
+            Optional<Member> member = memberRepository.findById(memberId);
             if(member.isPresent()) {
                 int maxStreak = member.get().getMaxStreak();
                 recapDto.setMaxStreak(maxStreak); // 최대 스트릭
 
                 // 최대 스트릭 상위 몇 프로 인지 ,,, 반환
-                List<Member> sortedMembers = memberRepository.findByOrderByMaxStreakDesc();
-                int totalMembers = sortedMembers.size();
-                int myMaxStreak = recapDto.getMaxStreak();
-
-                int rank = -1; // 초기 순위 설정
-
-                for(int i=0; i<totalMembers; i++) {
-                    if(sortedMembers.get(i).getMaxStreak() == myMaxStreak) {
-                        rank = i + 1;
-                        break;
-                    }
-                }
-
-                if(rank != -1) {
-                    double percentage = ((double) rank / totalMembers) * 100;
-                    double roundedPercentage = Math.round(percentage * 10.0) / 10.0;
-
-                    recapDto.setTopStreakPercentage(roundedPercentage); // 상위 몇 퍼센트인지 적용
-                }
+                recapDto.setTopStreakPercentage(streakRankingService.getTopPercentage(maxStreak)); // 상위 몇 퍼센트인지 적용
             }
             else {
                 throw new NotFoundException(memberId + "에 해당하는 member를 찾지 못했습니다.");
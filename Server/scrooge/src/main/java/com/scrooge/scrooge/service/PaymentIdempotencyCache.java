@@ -0,0 +1,75 @@
+package com.scrooge.scrooge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최근에 등록된 소비내역의 멱등키 -> 소비내역 id 캐시
+// 같은 알림이 다시 전송되면 DB를 거치지 않고 바로 기존 id를 돌려주기 위해 사용한다.
+// 최대 개수를 넘거나 TTL이 지난 항목은 오래된 순서대로 제거된다.
+@Component
+public class PaymentIdempotencyCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // 삽입 순서 = 만료 순서
+    private final LinkedHashMap<String, CachedKey> entries = new LinkedHashMap<>();
+
+    public PaymentIdempotencyCache(@Value("${payment.idempotency.cache.max-size:10000}") int maxSize,
+                                   @Value("${payment.idempotency.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public synchronized Long get(Long memberId, String idempotencyKey) {
+        String cacheKey = cacheKey(memberId, idempotencyKey);
+        CachedKey cachedKey = entries.get(cacheKey);
+        if (cachedKey == null) {
+            return null;
+        }
+        if (cachedKey.expiresAt < System.currentTimeMillis()) {
+            entries.remove(cacheKey);
+            return null;
+        }
+        return cachedKey.paymentHistoryId;
+    }
+
+    public synchronized void put(Long memberId, String idempotencyKey, Long paymentHistoryId) {
+        long now = System.currentTimeMillis();
+        String cacheKey = cacheKey(memberId, idempotencyKey);
+
+        entries.remove(cacheKey);
+        entries.put(cacheKey, new CachedKey(paymentHistoryId, now + ttlMillis));
+
+        evict(now);
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<String, CachedKey>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CachedKey> eldest = iterator.next();
+            if (entries.size() <= maxSize && eldest.getValue().expiresAt >= now) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    private String cacheKey(Long memberId, String idempotencyKey) {
+        return memberId + ":" + idempotencyKey;
+    }
+
+    private static class CachedKey {
+        private final Long paymentHistoryId;
+        private final long expiresAt;
+
+        private CachedKey(Long paymentHistoryId, long expiresAt) {
+            this.paymentHistoryId = paymentHistoryId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
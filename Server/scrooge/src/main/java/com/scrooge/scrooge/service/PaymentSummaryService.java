@@ -0,0 +1,141 @@
+package com.scrooge.scrooge.service;
+
+import com.scrooge.scrooge.domain.PaymentDailySummary;
+import com.scrooge.scrooge.domain.PaymentHistory;
+import com.scrooge.scrooge.dto.paymentHistory.CategorySummaryTotal;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentSummaryTotal;
+import com.scrooge.scrooge.repository.PaymentDailyCategorySummaryRepository;
+import com.scrooge.scrooge.repository.PaymentDailySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 소비내역 일일 집계(payment_daily_summary, payment_daily_category_summary)를 관리하는 서비스
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentSummaryService {
+
+    private final PaymentDailySummaryRepository paymentDailySummaryRepository;
+    private final PaymentDailyCategorySummaryRepository paymentDailyCategorySummaryRepository;
+
+    // 소비내역 한 건이 추가되었을 때 집계 반영
+    @Transactional
+    public void applyPayment(Long memberId, LocalDateTime paidAt, String category, int amount) {
+        LocalDate summaryDate = paidAt.toLocalDate();
+        int hour = paidAt.getHour();
+
+        paymentDailySummaryRepository.upsertDelta(memberId, summaryDate, amount, 1,
+                hour < 6 ? 1 : 0,
+                hour >= 6 && hour < 12 ? 1 : 0,
+                hour >= 12 && hour < 18 ? 1 : 0,
+                hour >= 18 ? 1 : 0);
+
+        if (category != null) {
+            paymentDailyCategorySummaryRepository.upsertDelta(memberId, summaryDate, category, amount, 1);
+        }
+    }
+
+    // 소비내역 여러 건이 한 번에 추가되었을 때 날짜/카테고리별로 묶어서 집계 반영
+    @Transactional
+    public void applyPayments(Long memberId, List<PaymentHistory> paymentHistories) {
+        Map<LocalDate, int[]> dailyDeltas = new HashMap<>(); // {amount, count, dawn, morning, afternoon, night}
+        Map<LocalDate, Map<String, int[]>> categoryDeltas = new HashMap<>(); // {amount, count}
+
+        for (PaymentHistory paymentHistory : paymentHistories) {
+            LocalDate summaryDate = paymentHistory.getPaidAt().toLocalDate();
+            int hour = paymentHistory.getPaidAt().getHour();
+            int amount = paymentHistory.getAmount();
+
+            int[] daily = dailyDeltas.computeIfAbsent(summaryDate, key -> new int[6]);
+            daily[0] += amount;
+            daily[1] += 1;
+            daily[hour < 6 ? 2 : hour < 12 ? 3 : hour < 18 ? 4 : 5] += 1;
+
+            if (paymentHistory.getCategory() != null) {
+                int[] category = categoryDeltas.computeIfAbsent(summaryDate, key -> new HashMap<>())
+                        .computeIfAbsent(paymentHistory.getCategory(), key -> new int[2]);
+                category[0] += amount;
+                category[1] += 1;
+            }
+        }
+
+        for (Map.Entry<LocalDate, int[]> entry : dailyDeltas.entrySet()) {
+            int[] daily = entry.getValue();
+            paymentDailySummaryRepository.upsertDelta(memberId, entry.getKey(), daily[0], daily[1], daily[2], daily[3], daily[4], daily[5]);
+        }
+
+        for (Map.Entry<LocalDate, Map<String, int[]>> entry : categoryDeltas.entrySet()) {
+            for (Map.Entry<String, int[]> categoryEntry : entry.getValue().entrySet()) {
+                paymentDailyCategorySummaryRepository.upsertDelta(memberId, entry.getKey(), categoryEntry.getKey(),
+                        categoryEntry.getValue()[0], categoryEntry.getValue()[1]);
+            }
+        }
+    }
+
+    // 소비내역의 금액/카테고리가 수정되었을 때 집계 반영 (결제 시각은 바뀌지 않는다)
+    @Transactional
+    public void applyUpdate(Long memberId, LocalDateTime paidAt, String oldCategory, int oldAmount, String newCategory, int newAmount) {
+        LocalDate summaryDate = paidAt.toLocalDate();
+
+        if (oldAmount != newAmount) {
+            paymentDailySummaryRepository.upsertDelta(memberId, summaryDate, newAmount - oldAmount, 0, 0, 0, 0, 0);
+        }
+
+        if (oldCategory != null) {
+            paymentDailyCategorySummaryRepository.upsertDelta(memberId, summaryDate, oldCategory, -oldAmount, -1);
+        }
+        if (newCategory != null) {
+            paymentDailyCategorySummaryRepository.upsertDelta(memberId, summaryDate, newCategory, newAmount, 1);
+        }
+    }
+
+    // 하루 소비 총액
+    public Integer getDailyTotal(Long memberId, LocalDate date) {
+        return paymentDailySummaryRepository.findByMemberIdAndSummaryDate(memberId, date)
+                .map(PaymentDailySummary::getTotalAmount)
+                .orElse(0L)
+                .intValue();
+    }
+
+    // 한 달 집계 합계
+    public PaymentSummaryTotal getMonthlyTotal(Long memberId, YearMonth yearMonth) {
+        return paymentDailySummaryRepository.sumByMemberIdAndDateRange(memberId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    // 한 달 카테고리별 집계 합계
+    public List<CategorySummaryTotal> getMonthlyCategoryTotals(Long memberId, YearMonth yearMonth) {
+        return paymentDailyCategorySummaryRepository.sumByMemberIdAndDateRange(memberId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    // 한 회원의 집계를 원본 소비내역으로부터 다시 만든다.
+    @Transactional
+    public void rebuild(Long memberId) {
+        paymentDailySummaryRepository.deleteByMemberId(memberId);
+        paymentDailyCategorySummaryRepository.deleteByMemberId(memberId);
+        paymentDailySummaryRepository.rebuildFromPaymentHistory(memberId);
+        paymentDailyCategorySummaryRepository.rebuildFromPaymentHistory(memberId);
+    }
+
+    // 전체 집계를 원본 소비내역으로부터 다시 만든다. (백필용)
+    @Transactional
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        paymentDailySummaryRepository.deleteAllInBulk();
+        paymentDailyCategorySummaryRepository.deleteAllInBulk();
+        int dailyRows = paymentDailySummaryRepository.rebuildFromPaymentHistory(null);
+        int categoryRows = paymentDailyCategorySummaryRepository.rebuildFromPaymentHistory(null);
+
+        log.info("payment summary rebuilt: dailyRows={}, categoryRows={}, elapsedMs={}",
+                dailyRows, categoryRows, System.currentTimeMillis() - start);
+    }
+}
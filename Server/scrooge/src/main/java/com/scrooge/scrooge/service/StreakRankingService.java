@@ -0,0 +1,31 @@
+package com.scrooge.scrooge.service;
+
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 최대 스트릭 순위 / 상위 퍼센트 계산
+// 회원 전체를 불러오지 않고 max_streak 인덱스에 대한 COUNT 쿼리 두 번으로 계산한다.
+// 정산(updateExpAfterDailySettlement)으로 maxStreak가 바뀌면 인덱스가 함께 갱신되므로 별도 동기화가 필요 없다.
+@Service
+@RequiredArgsConstructor
+public class StreakRankingService {
+
+    private final MemberRepository memberRepository;
+
+    // 동점자는 같은 순위 (나보다 최대 스트릭이 큰 회원 수 + 1)
+    public long getRank(int maxStreak) {
+        return memberRepository.countByMaxStreakGreaterThan(maxStreak) + 1;
+    }
+
+    // 상위 몇 퍼센트인지 (소수점 첫째 자리까지)
+    public Double getTopPercentage(int maxStreak) {
+        long totalMembers = memberRepository.count();
+        if (totalMembers == 0) {
+            return null;
+        }
+
+        double percentage = ((double) getRank(maxStreak) / totalMembers) * 100;
+        return Math.round(percentage * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.scrooge.scrooge.service.challenge;
+
+import com.scrooge.scrooge.domain.challenge.ChallengeAuth;
+import com.scrooge.scrooge.domain.challenge.ChallengeParticipant;
+import com.scrooge.scrooge.repository.challenge.ChallengeAuthRepository;
+import com.scrooge.scrooge.repository.challenge.ChallengeParticipantRepository;
+import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.util.Objects;
+
+// 챌린지 인증 결과 저장
+// 성공한 인증 행과 참여자/팀 성공 횟수 +1 을 한 트랜잭션으로 묶어서, 보정 쿼리가 그 사이에 끼어들어 횟수가 어긋나지 않도록 한다.
+// 먼저 저장해 둔(비동기) 인증은 아직 확인 중일 때만 결과를 쓴다. (시간 초과로 실패 처리된 뒤 늦게 끝난 작업이 덮어쓰지 않도록)
+@Service
+@RequiredArgsConstructor
+public class ChallengeAuthResultService {
+
+    private final ChallengeAuthRepository challengeAuthRepository;
+    private final ChallengeParticipantRepository challengeParticipantRepository;
+    private final ChallengeRepository challengeRepository;
+
+    // 성공 결과 저장, 이미 결과가 정해진 인증이면 false (성공 횟수도 올리지 않는다)
+    @Transactional
+    public boolean saveSuccess(ChallengeAuth challengeAuth, Long challengeId) {
+        challengeAuth.setIsSuccess(true);
+        if (!saveResult(challengeAuth)) {
+            return false;
+        }
+        addSuccessCount(challengeAuth.getChallengeParticipant(), challengeId);
+        return true;
+    }
+
+    // 실패 결과 저장, 이미 결과가 정해진 인증이면 false
+    public boolean saveFailure(ChallengeAuth challengeAuth) {
+        challengeAuth.setIsSuccess(false);
+        return saveResult(challengeAuth);
+    }
+
+    private boolean saveResult(ChallengeAuth challengeAuth) {
+        if (challengeAuth.getId() == null) {
+            challengeAuthRepository.save(challengeAuth);
+            return true;
+        }
+        return challengeAuthRepository.completePendingAuth(challengeAuth.getId(), challengeAuth.getIsSuccess(),
+                challengeAuth.getImgAddress(), challengeAuth.getSimilarity(), challengeAuth.getExampleImgAddress()) == 1;
+    }
+
+    // 인증 성공 시 참여자/팀 성공 횟수를 DB에서 바로 1씩 올린다.
+    private void addSuccessCount(ChallengeParticipant challengeParticipant, Long challengeId) {
+        challengeParticipantRepository.incrementSuccessCount(challengeParticipant.getId());
+        if (Objects.equals(challengeParticipant.getTeam(), 0)) {
+            challengeRepository.incrementTeamZeroSuccessCount(challengeId);
+        }
+        else if (Objects.equals(challengeParticipant.getTeam(), 1)) {
+            challengeRepository.incrementTeamOneSuccessCount(challengeId);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.scrooge.scrooge.service.challenge;
+
+import com.scrooge.scrooge.dto.challengeDto.ChallengeScoreboardAuthDto;
+import com.scrooge.scrooge.dto.challengeDto.ChallengeScoreboardDto;
+import com.scrooge.scrooge.dto.challengeDto.TeamSuccessCountDto;
+import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 챌린지 인증 성공을 모아 두었다가 주기적으로 챌린지마다 한 번씩 /topic/challenge/{challengeId}/scoreboard 로 보낸다.
+// 인증이 몰려도 챌린지당 전송 한 번, 팀 점수 조회 한 번으로 묶인다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeScoreboardPublisher {
+
+    // 한 번에 실어 보내는 인증 최대 개수 (넘치면 오래된 것부터 버리고 점수만 반영)
+    private static final int MAX_AUTHS_PER_PUSH = 50;
+
+    private final ChallengeRepository challengeRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 챌린지 id -> 아직 보내지 않은 인증 성공 목록
+    private final ConcurrentHashMap<Long, List<ChallengeScoreboardAuthDto>> pending = new ConcurrentHashMap<>();
+
+    public void addSuccess(Long challengeId, ChallengeScoreboardAuthDto auth) {
+        // compute 안에서 추가해야 flush가 목록을 가져가는 것과 겹치지 않는다.
+        pending.compute(challengeId, (id, auths) -> {
+            if (auths == null) {
+                auths = new ArrayList<>();
+            }
+            if (auths.size() >= MAX_AUTHS_PER_PUSH) {
+                auths.remove(0);
+            }
+            auths.add(auth);
+            return auths;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${challenge.scoreboard.push-ms:1000}")
+    public void flush() {
+        for (Long challengeId : pending.keySet()) {
+            List<ChallengeScoreboardAuthDto> auths = pending.remove(challengeId);
+            if (auths == null || auths.isEmpty()) continue;
+
+            try {
+                // 점수는 증감이 아닌 DB의 현재 값을 보내서, 중간 메시지를 놓친 클라이언트도 바로 맞춰진다.
+                TeamSuccessCountDto teamSuccessCount = challengeRepository.findTeamSuccessCounts(challengeId);
+                if (teamSuccessCount == null) continue;
+
+                messagingTemplate.convertAndSend("/topic/challenge/" + challengeId + "/scoreboard",
+                        new ChallengeScoreboardDto(challengeId, teamSuccessCount.getTeamZeroSuccessCount(),
+                                teamSuccessCount.getTeamOneSuccessCount(), auths));
+            } catch (RuntimeException e) {
+                log.warn("챌린지 스코어보드 전송 실패: challengeId={}", challengeId, e);
+            }
+        }
+    }
+}
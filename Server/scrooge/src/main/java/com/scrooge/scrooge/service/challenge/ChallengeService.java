@@ -1,7 +1,5 @@
 package com.scrooge.scrooge.service.challenge;
 
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
 import com.scrooge.scrooge.config.FileUploadProperties;
 import com.scrooge.scrooge.domain.challenge.Challenge;
 import com.scrooge.scrooge.domain.challenge.ChallengeChattingRoom;
@@ -14,18 +12,18 @@ import com.scrooge.scrooge.repository.member.MemberRepository;
 import com.scrooge.scrooge.repository.challenge.ChallengeExampleImageRepository;
 import com.scrooge.scrooge.repository.challenge.ChallengeParticipantRepository;
 import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import com.scrooge.scrooge.service.ImageUploadService;
 import lombok.RequiredArgsConstructor;
-import org.imgscalr.Scalr;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.webjars.NotFoundException;
 
-import javax.imageio.ImageIO;
 import javax.transaction.Transactional;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
@@ -42,11 +40,14 @@ public class ChallengeService {
     private final ChallengeChattingRoomRepository challengeChattingRoomRespository;
 
     private final FileUploadProperties fileUploadProperties;
+    private final ImageSimilarityEngine imageSimilarityEngine;
+    private final ExampleImageFeatureCache exampleImageFeatureCache;
 //    private final UploadService uploadService;
 
-    private final Storage storage;
-    private static final String bucketName = "scroogestorage";
-    private static final String GCP_ADDRESS = "https://storage.googleapis.com/";
+    private final ImageUploadService imageUploadService;
+
+    // 챌린지 목록 한 페이지 최대 개수
+    public static final int MAX_LIST_SIZE = 50;
 
     // 챌린지 생성 API
     @Transactional
@@ -102,39 +103,53 @@ public class ChallengeService {
     }
 
     public void uploadExampleImage(MultipartFile img, Challenge challenge) throws IOException {
-        BufferedImage originalImage = ImageIO.read(img.getInputStream());
-        BufferedImage resizedImage = Scalr.resize(originalImage, 800);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ImageIO.write(resizedImage, "jpg", outputStream);
-
-        byte[] optimizedImageData = outputStream.toByteArray();
-
-        String uuid = UUID.randomUUID().toString();
-        String ext = img.getContentType();
-
-        BlobInfo blobinfo = BlobInfo.newBuilder(bucketName, uuid)
-                .setContentType(ext)
-                .build();
-
-        storage.create(blobinfo, new ByteArrayInputStream(optimizedImageData));
-        String imgAddress = GCP_ADDRESS + bucketName + "/" + uuid;
+        BufferedImage resizedImage;
+        try (InputStream inputStream = img.getInputStream()) {
+            resizedImage = imageUploadService.decode(inputStream);
+        }
+        String imgAddress = imageUploadService.upload(resizedImage);
 
         ChallengeExampleImage challengeExampleImage = new ChallengeExampleImage();
         challengeExampleImage.setChallenge(challenge);
         challengeExampleImage.setImgAddress(imgAddress);
+        // 인증할 때마다 다시 계산하지 않도록 히스토그램을 함께 저장
+        challengeExampleImage.setHistogram(imageSimilarityEngine.encodeHistogram(imageSimilarityEngine.histogram(resizedImage)));
         challengeExampleImageRepository.save(challengeExampleImage);
+        exampleImageFeatureCache.evict(challenge.getId());
     }
 
     // 챌린지 전체를 조회하는 API
     public List<ChallengeResDto> getAllChallenges() {
-        return challengeRepository.findAll().stream()
-                .map(ChallengeResDto::new)
-                .collect(Collectors.toList());
+        return challengeRepository.findChallengeList(null, null, null, Pageable.unpaged());
+    }
+
+    // 챌린지 목록을 최신순으로 size개씩 조회하는 API
+    // categoryId, status가 없으면 전체, before는 이전 페이지 마지막 챌린지 id
+    public ChallengeListDto getChallengeList(Integer categoryId, Integer status, Long before, int size) {
+        if (size < 1 || size > MAX_LIST_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_LIST_SIZE + " 이하여야 합니다.");
+        }
+        String category = categoryId == null ? null : getCategoryName(categoryId);
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 가져온다.
+        List<ChallengeResDto> challenges = challengeRepository.findChallengeList(category, status, before, PageRequest.of(0, size + 1));
+
+        boolean hasNext = challenges.size() > size;
+        if (hasNext) {
+            challenges = challenges.subList(0, size);
+        }
+        Long nextCursor = hasNext ? challenges.get(challenges.size() - 1).getId() : null;
+
+        return new ChallengeListDto(challenges, nextCursor, hasNext);
     }
 
     // 카테고리 별 챌린지 전체를 조회하는 API
     public List<ChallengeResDto> getChallengesbyCategory(Integer categoryId) {
+        return challengeRepository.findChallengeList(getCategoryName(categoryId), null, null, Pageable.unpaged());
+    }
+
+    // categoryId => 1: 식비, 2: 교통비, 3: 쇼핑, 4: 기타
+    private String getCategoryName(Integer categoryId) {
         String category = "";
         switch (categoryId){
             case 1:
@@ -150,25 +165,12 @@ public class ChallengeService {
                 category = "기타";
                 break;
         }
-
-        return challengeRepository.findAllByCategory(category).stream()
-                .map(ChallengeResDto::new)
-                .collect(Collectors.toList());
+        return category;
     }
 
     // 마이 챌린지 조회하는 API
     public List<ChallengeResDto> getMyChallenges(Long memberId, Integer statusId) {
-        List<Challenge> challenges = new ArrayList<>();
-        List<ChallengeParticipant> challengeParticipantList = challengeParticipantRepository.findAllByMemberId(memberId);
-
-        // status가 같은 애만 추가해주기
-        for(ChallengeParticipant challengeParticipant : challengeParticipantList) {
-            if(Objects.equals(statusId, challengeParticipant.getChallenge().getStatus())) {
-                challenges.add(challengeParticipant.getChallenge());
-            }
-        }
-
-        return challenges.stream().map(ChallengeResDto::new).collect(Collectors.toList());
+        return challengeParticipantRepository.findMyChallenges(memberId, statusId);
     }
 
 
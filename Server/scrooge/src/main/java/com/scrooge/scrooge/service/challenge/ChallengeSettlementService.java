@@ -0,0 +1,79 @@
+package com.scrooge.scrooge.service.challenge;
+
+import com.scrooge.scrooge.dto.challengeDto.ChallengeTeamScoreDto;
+import com.scrooge.scrooge.repository.challenge.ChallengeParticipantRepository;
+import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ChallengeSettlementService {
+
+    // 이긴 팀 멤버가 받는 경험치
+    public static final int WIN_EXP = 500;
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeParticipantRepository challengeParticipantRepository;
+    private final MemberRepository memberRepository;
+
+    // 종료일이 지난 챌린지 묶음을 한 트랜잭션으로 정산한다. (실패하면 묶음 전체가 롤백되어 그대로 다시 시도할 수 있다)
+    // 반환값: [정산한 챌린지 수, 경험치를 받은 멤버 수]
+    @Transactional
+    public int[] settleChallenges(List<Long> challengeIds) {
+        // 1. 참여자별 성공 횟수를 challenge_auth 기준으로 보정하고, 팀 점수를 쿼리 한 번으로 집계
+        challengeParticipantRepository.reconcileSuccessCountsByChallengeIdIn(challengeIds);
+        Map<Long, List<ChallengeTeamScoreDto>> teamScores = challengeParticipantRepository.sumSuccessCountByChallengeIdIn(challengeIds).stream()
+                .collect(Collectors.groupingBy(ChallengeTeamScoreDto::getChallengeId));
+
+        // 2. 챌린지마다 승패 저장 (아직 진행 중(status 2)인 경우에만 바뀌므로 다시 실행해도 중복 정산되지 않는다)
+        int settled = 0;
+        Map<Long, Integer> winCounts = new HashMap<>();
+        for (Long challengeId : challengeIds) {
+            int teamZeroSuccessCount = 0;
+            int teamOneSuccessCount = 0;
+            for (ChallengeTeamScoreDto teamScore : teamScores.getOrDefault(challengeId, Collections.emptyList())) {
+                if (Objects.equals(teamScore.getTeam(), 0)) teamZeroSuccessCount = teamScore.getSuccessCount().intValue();
+                else if (Objects.equals(teamScore.getTeam(), 1)) teamOneSuccessCount = teamScore.getSuccessCount().intValue();
+            }
+
+            // 1팀 성공 횟수가 더 많으면 1팀 승리, 동점이면 0팀 승리
+            int winTeam = teamZeroSuccessCount < teamOneSuccessCount ? 1 : 0;
+            int loseTeam = 1 - winTeam;
+
+            if (challengeRepository.settle(challengeId, winTeam, loseTeam, teamZeroSuccessCount, teamOneSuccessCount) == 0) {
+                continue;
+            }
+            settled++;
+
+            for (Long memberId : challengeParticipantRepository.findMemberIdsByChallengeIdAndTeam(challengeId, winTeam)) {
+                winCounts.merge(memberId, 1, Integer::sum);
+            }
+        }
+
+        // 3. 이긴 팀 멤버에게 승리 한 번마다 경험치를 주고 레벨업 조건을 확인한다. (챌린지마다 LevelService.levelUp을 부르던 것과 같은 결과)
+        //    라운드 r에서는 r번 이상 이긴 멤버를 UPDATE 한 번씩으로 처리하므로, 쿼리 수는 묶음 안의 최대 승리 횟수에만 비례한다.
+        for (int round = 1; ; round++) {
+            int minWinCount = round;
+            List<Long> memberIds = winCounts.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= minWinCount)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            if (memberIds.isEmpty()) break;
+
+            memberRepository.addExp(memberIds, WIN_EXP);
+            memberRepository.levelUp(memberIds);
+        }
+
+        return new int[]{settled, winCounts.size()};
+    }
+}
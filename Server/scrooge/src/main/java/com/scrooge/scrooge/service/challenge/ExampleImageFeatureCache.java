@@ -0,0 +1,111 @@
+package com.scrooge.scrooge.service.challenge;
+
+import com.scrooge.scrooge.domain.challenge.ChallengeExampleImage;
+import com.scrooge.scrooge.dto.challengeDto.ExampleImageFeature;
+import com.scrooge.scrooge.repository.challenge.ChallengeExampleImageRepository;
+import com.scrooge.scrooge.service.storage.BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 챌린지 id -> 예시 사진 히스토그램 목록 캐시
+// 히스토그램은 예시 사진 업로드 시 DB에 저장되며, 저장되어 있지 않은 기존 사진은 처음 조회할 때 계산해서 채워 넣는다.
+// 최대 개수를 넘으면 가장 오래 사용하지 않은 챌린지부터 제거된다.
+@Slf4j
+@Component
+public class ExampleImageFeatureCache {
+
+    private final ChallengeExampleImageRepository challengeExampleImageRepository;
+    private final ImageSimilarityEngine imageSimilarityEngine;
+    private final BlobStore blobStore;
+
+    private final Map<Long, List<ExampleImageFeature>> entries;
+
+    public ExampleImageFeatureCache(ChallengeExampleImageRepository challengeExampleImageRepository,
+                                    ImageSimilarityEngine imageSimilarityEngine,
+                                    BlobStore blobStore,
+                                    @Value("${image-compare.feature-cache.max-size:1000}") int maxSize) {
+        this.challengeExampleImageRepository = challengeExampleImageRepository;
+        this.imageSimilarityEngine = imageSimilarityEngine;
+        this.blobStore = blobStore;
+        // 접근 순서 = 제거 순서
+        this.entries = new LinkedHashMap<Long, List<ExampleImageFeature>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<ExampleImageFeature>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public List<ExampleImageFeature> getFeatures(Long challengeId) {
+        synchronized (this) {
+            List<ExampleImageFeature> cached = entries.get(challengeId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // DB/스토리지 조회는 락 밖에서 (같은 챌린지를 동시에 읽어도 결과는 같다)
+        List<ExampleImageFeature> features = loadFeatures(challengeId);
+        // 예시 사진이 아직 저장되기 전(챌린지 생성 중)이면 캐시하지 않는다.
+        if (!features.isEmpty()) {
+            synchronized (this) {
+                entries.put(challengeId, features);
+            }
+        }
+        return features;
+    }
+
+    // 예시 사진이 바뀌면 다음 조회 때 다시 읽도록 제거
+    public synchronized void evict(Long challengeId) {
+        entries.remove(challengeId);
+    }
+
+    private List<ExampleImageFeature> loadFeatures(Long challengeId) {
+        List<ExampleImageFeature> features = new ArrayList<>();
+        for (ChallengeExampleImage challengeExampleImage : challengeExampleImageRepository.findByChallengeId(challengeId)) {
+            // 읽을 수 없는 예시 사진 하나 때문에 챌린지 인증 전체가 실패하지 않도록 건너뛴다.
+            try {
+                if (challengeExampleImage.getHistogram() == null) {
+                    double[] histogram = imageSimilarityEngine.histogram(readStoredImage(challengeExampleImage.getImgAddress()));
+                    challengeExampleImage.setHistogram(imageSimilarityEngine.encodeHistogram(histogram));
+                    challengeExampleImageRepository.save(challengeExampleImage);
+                    log.info("예시 사진 히스토그램 백필: challengeExampleImageId={}", challengeExampleImage.getId());
+                }
+                features.add(new ExampleImageFeature(challengeExampleImage.getImgAddress(),
+                        imageSimilarityEngine.decodeHistogram(challengeExampleImage.getHistogram())));
+            } catch (IOException | RuntimeException e) {
+                log.warn("예시 사진을 읽을 수 없어 비교에서 제외: challengeExampleImageId={}", challengeExampleImage.getId(), e);
+            }
+        }
+        return Collections.unmodifiableList(features);
+    }
+
+    // 저장소에 올린 이미지를 읽어 디코딩한다. (저장소 주소가 아니면 URL로 내려받는다)
+    private BufferedImage readStoredImage(String imageAddress) throws IOException {
+        InputStream inputStream = blobStore.openInputStream(imageAddress);
+        if (inputStream == null) {
+            inputStream = new URL(imageAddress).openStream();
+        }
+
+        BufferedImage image;
+        try (InputStream in = inputStream) {
+            image = ImageIO.read(in);
+        }
+        if (image == null) {
+            throw new IOException("이미지를 읽을 수 없습니다: " + imageAddress);
+        }
+        return image;
+    }
+}
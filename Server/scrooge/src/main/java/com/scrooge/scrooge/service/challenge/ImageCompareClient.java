@@ -0,0 +1,131 @@
+package com.scrooge.scrooge.service.challenge;
+
+import com.scrooge.scrooge.dto.challengeDto.ImagePaths;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 이미지 비교 서버(image-analysis) 호출
+// 동시 요청 수를 제한하고, 연속으로 실패하면 일정 시간 동안 호출하지 않는다(서킷 브레이커).
+// 중단 시간이 지나면 한 건만 시험 호출해서, 성공하면 호출을 재개하고 실패하면 다시 중단한다.
+@Slf4j
+@Component
+public class ImageCompareClient {
+
+    private final RestTemplate restTemplate;
+    private final String compareUrl;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 0이면 닫힘, 그 외에는 이 시각까지 열림이고 지나면 반열림 (시험 호출 한 건만 보낸다)
+    private final AtomicLong openUntil = new AtomicLong();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+    // 호출 통계 (statsLogInterval 건마다 info 로그)
+    private final long statsLogInterval;
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalLatencyMs = new AtomicLong();
+
+    public ImageCompareClient(@Qualifier("imageCompareRestTemplate") RestTemplate restTemplate,
+                              @Value("${image-compare.url:http://day6scrooge.duckdns.org:8000/compare-images}") String compareUrl,
+                              @Value("${image-compare.max-concurrent:20}") int maxConcurrent,
+                              @Value("${image-compare.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+                              @Value("${image-compare.circuit.failure-threshold:5}") int failureThreshold,
+                              @Value("${image-compare.circuit.open-ms:30000}") long openDurationMs,
+                              @Value("${image-compare.stats-log-interval:100}") long statsLogInterval) {
+        this.restTemplate = restTemplate;
+        this.compareUrl = compareUrl;
+        this.permits = new Semaphore(maxConcurrent);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.statsLogInterval = statsLogInterval;
+    }
+
+    public Double compare(ImagePaths imagePaths) {
+        // 열림: 호출하지 않는다. 반열림: 한 건만 시험 호출하고 나머지는 결과가 나올 때까지 막는다.
+        boolean probe = false;
+        long until = openUntil.get();
+        if (until != 0) {
+            if (System.currentTimeMillis() < until || !probeInFlight.compareAndSet(false, true)) {
+                rejectedCount.incrementAndGet();
+                throw new IllegalStateException("이미지 비교 서버 호출이 잠시 중단된 상태입니다.");
+            }
+            probe = true;
+        }
+
+        try {
+            return call(imagePaths, probe);
+        } finally {
+            if (probe) {
+                probeInFlight.set(false);
+            }
+        }
+    }
+
+    private Double call(ImagePaths imagePaths, boolean probe) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCount.incrementAndGet();
+                throw new IllegalStateException("이미지 비교 요청이 너무 많습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 비교 요청이 중단되었습니다.", e);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            Double result = restTemplate.postForObject(compareUrl, new HttpEntity<>(imagePaths, headers), Double.class);
+            consecutiveFailures.set(0);
+            if (probe) {
+                openUntil.set(0);
+                log.info("이미지 비교 서버 시험 호출 성공, 호출 재개");
+            }
+            return result;
+        } catch (RestClientException e) {
+            failureCount.incrementAndGet();
+            if (probe) {
+                openUntil.set(System.currentTimeMillis() + openDurationMs);
+                log.warn("이미지 비교 서버 시험 호출 실패, {}ms 동안 다시 호출 중단", openDurationMs);
+            }
+            else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                openUntil.set(System.currentTimeMillis() + openDurationMs);
+                consecutiveFailures.set(0);
+                log.warn("이미지 비교 서버 {}회 연속 실패, {}ms 동안 호출 중단", failureThreshold, openDurationMs);
+            }
+            throw e;
+        } finally {
+            permits.release();
+
+            long latencyMs = System.currentTimeMillis() - startedAt;
+            long count = callCount.incrementAndGet();
+            long total = totalLatencyMs.addAndGet(latencyMs);
+            log.debug("이미지 비교 {}ms", latencyMs);
+            if (count % statsLogInterval == 0) {
+                log.info("이미지 비교 통계: 호출 {}건, 실패 {}건, 거절 {}건, 평균 {}ms, 서킷 {}",
+                        count, failureCount.get(), rejectedCount.get(), total / count, openUntil.get() == 0 ? "닫힘" : "열림");
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.scrooge.scrooge.service.challenge;
+
+import org.springframework.stereotype.Component;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+
+// image-analysis 서버(main.py)와 같은 순서로 두 이미지의 유사도를 계산한다.
+// 300x300으로 줄인 뒤 흑백 256구간 히스토그램을 만들고 상관계수(cv2.HISTCMP_CORREL)를 구한다.
+// 흑백 변환과 상관계수는 OpenCV와 같은 값이지만, 리사이즈는 cv2.resize(INTER_LINEAR)가 아닌 Graphics2D 쌍선형 보간이고
+// 입력도 저장된 JPEG이 아닌 업로드 때 줄여서 디코딩한 이미지라서, remote 모드 점수를 그대로 재현하지는 않는다.
+// (경계 픽셀이 섞이는 정도만 달라서 비슷하지만, 기준값 0.65 근처에서는 두 모드의 성공 여부가 다를 수 있다)
+@Component
+public class ImageSimilarityEngine {
+
+    private static final int SIZE = 300;
+    private static final int BINS = 256;
+
+    public double compare(BufferedImage image1, BufferedImage image2) {
+        return correlation(histogram(image1), histogram(image2));
+    }
+
+    // 흑백 히스토그램 (예시 사진처럼 여러 번 비교하는 이미지는 미리 구해두고 재사용할 수 있다)
+    public double[] histogram(BufferedImage image) {
+        BufferedImage resized = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, SIZE, SIZE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        double[] histogram = new double[BINS];
+        int[] pixels = resized.getRGB(0, 0, SIZE, SIZE, null, 0, SIZE);
+        for (int rgb : pixels) {
+            int r = (rgb >> 16) & 0xff;
+            int g = (rgb >> 8) & 0xff;
+            int b = rgb & 0xff;
+            histogram[gray(r, g, b)]++;
+        }
+        return histogram;
+    }
+
+    // cv2.COLOR_BGR2GRAY 와 같은 고정소수점 계산 (R 4899, G 9617, B 1868, 14bit 시프트 후 반올림)
+    // 실수로 계산하면 일부 색에서 1씩 달라져서 remote 모드와 유사도가 달라진다.
+    int gray(int r, int g, int b) {
+        return (r * 4899 + g * 9617 + b * 1868 + (1 << 13)) >> 14;
+    }
+
+    // DB 저장용 (구간마다 4byte 정수)
+    public byte[] encodeHistogram(double[] histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(BINS * Integer.BYTES);
+        for (double count : histogram) {
+            buffer.putInt((int) count);
+        }
+        return buffer.array();
+    }
+
+    public double[] decodeHistogram(byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        double[] histogram = new double[BINS];
+        for (int i = 0; i < BINS; i++) {
+            histogram[i] = buffer.getInt();
+        }
+        return histogram;
+    }
+
+    public double correlation(double[] histogram1, double[] histogram2) {
+        double mean1 = 0, mean2 = 0;
+        for (int i = 0; i < BINS; i++) {
+            mean1 += histogram1[i];
+            mean2 += histogram2[i];
+        }
+        mean1 /= BINS;
+        mean2 /= BINS;
+
+        double numerator = 0, variance1 = 0, variance2 = 0;
+        for (int i = 0; i < BINS; i++) {
+            double d1 = histogram1[i] - mean1;
+            double d2 = histogram2[i] - mean2;
+            numerator += d1 * d2;
+            variance1 += d1 * d1;
+            variance2 += d2 * d2;
+        }
+
+        double denominator = variance1 * variance2;
+        // OpenCV와 같이 분산이 0이면(DBL_EPSILON 이하) 1을 반환
+        return Math.abs(denominator) > Math.ulp(1.0) ? numerator / Math.sqrt(denominator) : 1.0;
+    }
+}
@@ -1,9 +1,5 @@
 package com.scrooge.scrooge.service.challenge;
 
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import com.scrooge.scrooge.controller.challenge.ImageCompareController;
-import com.scrooge.scrooge.domain.member.Member;
 import com.scrooge.scrooge.domain.challenge.Challenge;
 import com.scrooge.scrooge.domain.challenge.ChallengeAuth;
 import com.scrooge.scrooge.domain.challenge.ChallengeExampleImage;
@@ -14,26 +10,30 @@ import com.scrooge.scrooge.repository.challenge.ChallengeExampleImageRepository;
 import com.scrooge.scrooge.repository.challenge.ChallengeParticipantRepository;
 import com.scrooge.scrooge.repository.challenge.ChallengeRepository;
 import com.scrooge.scrooge.repository.member.MemberSelectedQuestRepository;
+import com.scrooge.scrooge.service.ImageUploadService;
 import com.scrooge.scrooge.service.QuestService;
-import com.scrooge.scrooge.repository.member.MemberRepository;
-import com.scrooge.scrooge.service.LevelService;
 import lombok.RequiredArgsConstructor;
-import org.imgscalr.Scalr;
-import org.springframework.scheduling.annotation.Scheduled;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.webjars.NotFoundException;
 
-import javax.imageio.ImageIO;
 import javax.transaction.Transactional;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StartChallengeService {
@@ -44,14 +44,27 @@ public class StartChallengeService {
     private final ChallengeExampleImageRepository challengeExampleImageRepository;
     private final MemberSelectedQuestRepository memberSelectedQuestRepository;
     private final QuestService questService;
-    private final ImageCompareController imageCompareController;
-    private final Storage storage;
+    private final ImageCompareClient imageCompareClient;
+    private final ImageUploadService imageUploadService;
 
-    private final MemberRepository memberRepository;
-    private final LevelService levelService;
+    // 인증 성공 기준 유사도
+    private static final double SIMILARITY_THRESHOLD = 0.65;
 
-    private static final String bucketName = "scroogestorage";
-    private static final String GCP_ADDRESS = "https://storage.googleapis.com/";
+    private final ExecutorService imageCompareExecutor;
+    private final ImageSimilarityEngine imageSimilarityEngine;
+    private final ExampleImageFeatureCache exampleImageFeatureCache;
+    private final ThreadPoolTaskExecutor challengeAuthExecutor;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChallengeScoreboardPublisher challengeScoreboardPublisher;
+    private final ChallengeAuthResultService challengeAuthResultService;
+
+    // 유사도 계산 위치 (remote: image-analysis 서버 호출, local: 서버 안에서 계산)
+    @Value("${image-compare.mode:remote}")
+    private String imageCompareMode;
+
+    // 비교 요청 한 건을 기다리는 최대 시간
+    @Value("${image-compare.timeout-ms:5000}")
+    private long imageCompareTimeoutMs;
 
     // 사용자가 참여한 시작된 챌린지에 대한 정보 조회
 //    public MyChallengeRespDto getMyStartedChallenge(Long challengeId) throws Exception {
@@ -94,69 +107,242 @@ public class StartChallengeService {
                 .orElseThrow(() -> new NotFoundException("해당 챌린지를 찾을 수 없습니다."));
 
         return new StartedChallengeDto(challenge, challenge.getChallengeExampleImageList(),
-                challengeAuthRepository.countZeroSuccessCount(challengeId), challengeAuthRepository.countOneSuccessCount(challengeId));
+                challenge.getTeamZeroSuccessCount(), challenge.getTeamOneSuccessCount());
     }
 
     // 사용자 인증 등록 API
     public ChallengeStartRespDto createMyChallengeAuth(Long challengeId, Long memberId, MultipartFile img) throws IOException {
+        ChallengeAuth challengeAuth = newChallengeAuth(challengeId, memberId);
+        return verifyChallengeAuth(challengeAuth, challengeId, memberId, resizeAuthImage(img));
+    }
+
+    // 사용자 인증 비동기 등록 API
+    // 사진만 받아두고 확인 중인 인증을 먼저 저장한 뒤, 작업 스레드에서 확인해서 결과를 /topic/challenge-auth/{authId} 로 보낸다.
+    // 대기 중인 작업이 원본 사진을 힙에 들고 있지 않도록 임시 파일에 받아두고 경로만 넘긴다.
+    public ChallengeStartRespDto submitMyChallengeAuth(Long challengeId, Long memberId, MultipartFile img) throws IOException {
+        Path imageFile = Files.createTempFile("challenge-auth-", ".upload");
+        boolean queued = false;
+        try {
+            img.transferTo(imageFile);
+
+            ChallengeAuth challengeAuth = challengeAuthRepository.save(newChallengeAuth(challengeId, memberId));
+            try {
+                challengeAuthExecutor.execute(() -> runChallengeAuthJob(challengeAuth, challengeId, memberId, imageFile));
+            } catch (TaskRejectedException e) {
+                challengeAuthRepository.delete(challengeAuth);
+                throw e;
+            }
+            queued = true;
+            return toChallengeStartRespDto(challengeAuth);
+        } finally {
+            // 작업에 넘기지 못했으면 여기서 지운다. (넘긴 뒤에는 작업이 지운다)
+            if (!queued) {
+                deleteTempFile(imageFile);
+            }
+        }
+    }
+
+    // 비동기 인증 결과 조회 API
+    public ChallengeStartRespDto getMyChallengeAuthResult(Long challengeId, Long authId, Long memberId) {
+        ChallengeAuth challengeAuth = challengeAuthRepository.findById(authId)
+                .filter(auth -> auth.getChallengeParticipant().getChallenge().getId().equals(challengeId))
+                .filter(auth -> auth.getChallengeParticipant().getMember().getId().equals(memberId))
+                .orElseThrow(() -> new NotFoundException("해당 인증을 찾을 수 없습니다."));
+        return toChallengeStartRespDto(challengeAuth);
+    }
+
+    private void runChallengeAuthJob(ChallengeAuth challengeAuth, Long challengeId, Long memberId, Path imageFile) {
+        ChallengeStartRespDto challengeStartRespDto;
+        try {
+            BufferedImage authImage;
+            try (InputStream inputStream = Files.newInputStream(imageFile)) {
+                authImage = imageUploadService.decode(inputStream);
+            } finally {
+                deleteTempFile(imageFile);
+            }
+            challengeStartRespDto = verifyChallengeAuth(challengeAuth, challengeId, memberId, authImage);
+        } catch (Exception e) {
+            log.error("챌린지 인증 처리 실패: authId={}", challengeAuth.getId(), e);
+            if (challengeAuthResultService.saveFailure(challengeAuth)) {
+                challengeStartRespDto = toChallengeStartRespDto(challengeAuth);
+                challengeStartRespDto.setMessage("챌린지 인증 처리 중 오류가 발생했습니다.");
+            }
+            else {
+                challengeStartRespDto = getStoredResult(challengeAuth);
+            }
+        }
+        messagingTemplate.convertAndSend("/topic/challenge-auth/" + challengeAuth.getId(), challengeStartRespDto);
+    }
+
+    // 확인 중으로 너무 오래 남은 인증을 실패로 처리하고, 기다리는 클라이언트에게 /topic/challenge-auth/{authId} 로 알린다.
+    // 그 사이에 작업이 끝나서 결과가 저장된 인증은 건너뛴다.
+    public int failTimedOutAuths(LocalDateTime createdBefore) {
+        int failed = 0;
+        for (Long authId : challengeAuthRepository.findPendingAuthIdsCreatedBefore(createdBefore)) {
+            if (challengeAuthRepository.failPendingAuth(authId) == 0) continue;
+            failed++;
+
+            ChallengeAuth challengeAuth = challengeAuthRepository.findById(authId).orElse(null);
+            if (challengeAuth == null) continue;
+            ChallengeStartRespDto challengeStartRespDto = toChallengeStartRespDto(challengeAuth);
+            challengeStartRespDto.setMessage("챌린지 인증 확인 시간이 초과되었습니다.");
+            messagingTemplate.convertAndSend("/topic/challenge-auth/" + authId, challengeStartRespDto);
+        }
+        return failed;
+    }
+
+    // DB에 저장된 결과 (시간 초과 등으로 먼저 결과가 정해진 경우)
+    private ChallengeStartRespDto getStoredResult(ChallengeAuth challengeAuth) {
+        return toChallengeStartRespDto(challengeAuthRepository.findById(challengeAuth.getId()).orElse(challengeAuth));
+    }
+
+    private void deleteTempFile(Path imageFile) {
+        try {
+            Files.deleteIfExists(imageFile);
+        } catch (IOException e) {
+            log.warn("챌린지 인증 임시 파일 삭제 실패: {}", imageFile, e);
+        }
+    }
+
+    private ChallengeAuth newChallengeAuth(Long challengeId, Long memberId) {
         ChallengeAuth challengeAuth = new ChallengeAuth();
 
         //오늘 날짜로 정하기
         challengeAuth.setCreatedAt(LocalDateTime.now());
 
-        String authImageAddress = uploadAuthImage(img);
-        challengeAuth.setImgAddress(authImageAddress);
-
         ChallengeParticipant challengeParticipant = challengeParticipantRepository.findByMemberIdAndChallengeId(memberId, challengeId);
         challengeAuth.setChallengeParticipant(challengeParticipant);
         // stackoverflow 에러 발생
 
-        List<ChallengeExampleImage> challengeExampleImageList = challengeExampleImageRepository.findByChallengeId(challengeId);
+        return challengeAuth;
+    }
+
+    // 인증 사진을 올리고 예시 사진들과 비교해서 성공 여부를 저장한다.
+    private ChallengeStartRespDto verifyChallengeAuth(ChallengeAuth challengeAuth, Long challengeId, Long memberId,
+                                                      BufferedImage authImage) throws IOException {
+        String authImageAddress = imageUploadService.upload(authImage);
+        challengeAuth.setImgAddress(authImageAddress);
 
         // 실패일때 사용할 이미지주소와 결과값
         Double failedResult = -0.5;
         String failedImageAddress = null;
 
-        for (ChallengeExampleImage challengeExampleImage : challengeExampleImageList) {
-            Double result = imageCompareController.sendImages(new ImagePaths(challengeExampleImage.getImgAddress(), authImageAddress)).getBody();
-            if (failedResult < result && result < 0.65) {
+        // 예시 사진들과 동시에 비교하고, 하나라도 기준을 넘으면 나머지 비교는 취소한다.
+        for (ImageCompareResult compareResult : compareWithExampleImages(challengeId, authImage, authImageAddress)) {
+            Double result = compareResult.getResult();
+            if (failedResult < result && result < SIMILARITY_THRESHOLD) {
                 failedResult = result;
-                failedImageAddress = challengeExampleImage.getImgAddress();
+                failedImageAddress = compareResult.getExampleImageAddress();
             }
-            if (result >= 0.65) {
+            if (result >= SIMILARITY_THRESHOLD) {
+                challengeAuth.setSimilarity(result);
+                challengeAuth.setExampleImgAddress(compareResult.getExampleImageAddress());
+                if (!challengeAuthResultService.saveSuccess(challengeAuth, challengeId)) {
+                    return getStoredResult(challengeAuth);
+                }
 
                 // 인증하기 퀘스트를 선택했을 때
                 if (memberSelectedQuestRepository.existsByMemberIdAndQuestIdAndIsSelected(memberId, 5L, true)) {
                     questService.completeQuest(5L, memberId);
                 }
 
-
-                challengeAuth.setIsSuccess(true);
-                challengeAuthRepository.save(challengeAuth);
-
-                ChallengeStartRespDto challengeStartRespDto = new ChallengeStartRespDto();
-                challengeStartRespDto.setExampleImageAddress(challengeExampleImage.getImgAddress());
-                challengeStartRespDto.setResult(result);
-                challengeStartRespDto.setStatus("Successed");
-                challengeStartRespDto.setMessage("챌린지 인증에 성공했습니다.");
-                return challengeStartRespDto;
+                challengeScoreboardPublisher.addSuccess(challengeId, new ChallengeScoreboardAuthDto(challengeAuth.getId(),
+                        memberId, challengeAuth.getChallengeParticipant().getTeam(), challengeAuth.getImgAddress()));
+                return toChallengeStartRespDto(challengeAuth);
             }
         }
 
         // 5개 사진에 대해서 전부 유사도가 0.65이상이 되지 못했음 -> 실패
-        challengeAuth.setIsSuccess(false);
-        challengeAuthRepository.save(challengeAuth);
+        challengeAuth.setSimilarity(failedResult);
+        challengeAuth.setExampleImgAddress(failedImageAddress);
+        if (!challengeAuthResultService.saveFailure(challengeAuth)) {
+            return getStoredResult(challengeAuth);
+        }
+        return toChallengeStartRespDto(challengeAuth);
+    }
 
+    private ChallengeStartRespDto toChallengeStartRespDto(ChallengeAuth challengeAuth) {
         ChallengeStartRespDto challengeStartRespDto = new ChallengeStartRespDto();
-        challengeStartRespDto.setResult(failedResult);
-        challengeStartRespDto.setExampleImageAddress(failedImageAddress);
-        challengeStartRespDto.setStatus("Failed");
-        challengeStartRespDto.setMessage("챌린지 인증에 실패했습니다.");
+        challengeStartRespDto.setAuthId(challengeAuth.getId());
+        challengeStartRespDto.setResult(challengeAuth.getSimilarity());
+        challengeStartRespDto.setExampleImageAddress(challengeAuth.getExampleImgAddress());
+
+        if (challengeAuth.getIsSuccess() == null) {
+            challengeStartRespDto.setStatus("Pending");
+            challengeStartRespDto.setMessage("챌린지 인증을 확인하고 있습니다.");
+        }
+        else if (challengeAuth.getIsSuccess()) {
+            challengeStartRespDto.setStatus("Successed");
+            challengeStartRespDto.setMessage("챌린지 인증에 성공했습니다.");
+        }
+        else {
+            challengeStartRespDto.setStatus("Failed");
+            challengeStartRespDto.setMessage("챌린지 인증에 실패했습니다.");
+        }
         return challengeStartRespDto;
     }
 
 
 
+    // local 모드에서는 이미 메모리에 있는 인증 사진의 히스토그램만 계산해서 캐시된 예시 사진 히스토그램과 비교하고,
+    // remote 모드에서는 비교 서버를 호출한다.
+    private List<ImageCompareResult> compareWithExampleImages(Long challengeId, BufferedImage authImage, String authImageAddress) {
+        if ("local".equalsIgnoreCase(imageCompareMode)) {
+            double[] authHistogram = imageSimilarityEngine.histogram(authImage);
+
+            List<ImageCompareResult> results = new ArrayList<>();
+            for (ExampleImageFeature exampleImageFeature : exampleImageFeatureCache.getFeatures(challengeId)) {
+                double result = imageSimilarityEngine.correlation(exampleImageFeature.getHistogram(), authHistogram);
+                results.add(new ImageCompareResult(exampleImageFeature.getImgAddress(), result));
+                if (result >= SIMILARITY_THRESHOLD) break;
+            }
+            return results;
+        }
+        return compareRemotely(challengeExampleImageRepository.findByChallengeId(challengeId), authImageAddress);
+    }
+
+    // 예시 사진마다 유사도 비교를 동시에 요청한다.
+    // 완료된 순서대로 결과를 모으다가 기준을 넘는 결과가 나오면 남은 요청을 취소하고 바로 반환한다.
+    // 시간 안에 끝나지 않거나 실패한 비교는 결과에서 빠진다.
+    private List<ImageCompareResult> compareRemotely(List<ChallengeExampleImage> challengeExampleImageList, String authImageAddress) {
+        CompletionService<ImageCompareResult> completionService = new ExecutorCompletionService<>(imageCompareExecutor);
+        List<Future<ImageCompareResult>> futures = new ArrayList<>();
+        for (ChallengeExampleImage challengeExampleImage : challengeExampleImageList) {
+            String exampleImageAddress = challengeExampleImage.getImgAddress();
+            futures.add(completionService.submit(() -> new ImageCompareResult(exampleImageAddress,
+                    imageCompareClient.compare(new ImagePaths(exampleImageAddress, authImageAddress)))));
+        }
+
+        List<ImageCompareResult> results = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(imageCompareTimeoutMs);
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Future<ImageCompareResult> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    log.warn("챌린지 인증 사진 비교 시간 초과: {}ms", imageCompareTimeoutMs);
+                    break;
+                }
+
+                ImageCompareResult compareResult;
+                try {
+                    compareResult = done.get();
+                } catch (ExecutionException e) {
+                    log.warn("챌린지 인증 사진 비교 실패", e.getCause());
+                    continue;
+                }
+                if (compareResult.getResult() == null) continue;
+
+                results.add(compareResult);
+                if (compareResult.getResult() >= SIMILARITY_THRESHOLD) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
     // 나의 인증 현황 조회하는 API
     public MyChallengeMyAuthDto getMyChallengeMyAuth(Long challengeId, Long memberId) {
 
@@ -167,7 +353,7 @@ public class StartChallengeService {
         ChallengeParticipant challengeParticipant = challengeParticipantRepository.findByMemberIdAndChallengeId(memberId, challengeId);
 
         // 2. 현재 challengeParticipant가 성공한 횟수를 가져온다.
-        Integer currentSuccessCount = challengeAuthRepository.countByChallengeParticipantIdAndIsSuccess(challengeParticipant.getId(), true);
+        Integer currentSuccessCount = challengeParticipant.getSuccessCount();
 
         // 3. challengeId에 해당하는 challenge의 총 인증해야하는 횟수를 가져온다.
         Challenge challenge = challengeRepository.findById(challengeId)
@@ -200,97 +386,16 @@ public class StartChallengeService {
     }
 
 
-    // endDate의 시간이 지나면 자동으로 status 3으로 변경, 즉 상태가 종료됨으로 변경된다.
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
-    public void checkEndDateAndUpdateChallengeStatus() {
-        // 모든 진행 중인 Challenge를 challenges 리스트에 저장한다.
-        List<Challenge> challenges = challengeRepository.findAllByStatus(2);
-
-        // 현재 시간을 받아온다.
-        LocalDateTime currentDateTime = LocalDateTime.now();
-
-        // 진행중인 리스트의 challenge를 하나씩 접근하여 현재 시간이 endDate를 지났을 경우 status를 3, 즉 종료로 변경해준다.
-        for(Challenge challenge : challenges) {
-            if(currentDateTime.isAfter(challenge.getEndDate())) {
-                challenge.setStatus(3);
-
-                int teamZeroSuccessCount = challengeAuthRepository.countZeroSuccessCount(challenge.getId());
-                int teamOneSuccessCount = challengeAuthRepository.countOneSuccessCount(challenge.getId());
-
-                // 0팀이 승리
-                int winTeam = 0;
-                int loseTeam = 1;
-
-                // 1팀이 승리
-                if (teamZeroSuccessCount < teamOneSuccessCount) { // 1팀이 이긴다면
-                    winTeam = 1;
-                    loseTeam = 0;
-                }
-
-                challenge.setWinTeamNo(winTeam);
-                challenge.setLoseTeamNo(loseTeam);
-
-                // 이긴 팀 결정됐다면 멤버 경험치 올려줘야함 ,,,
-                List<ChallengeParticipant> challengeParticipantList = challengeParticipantRepository.findByChallengeIdAndTeam(challenge.getId(), winTeam);
-                for(ChallengeParticipant challengeParticipant : challengeParticipantList) {
-                    Member member = challengeParticipant.getMember();
-                    member.setExp(member.getExp() + 500);
-                    memberRepository.save(member);
-
-                    levelService.levelUp(member);
-                }
-
-                challengeRepository.save(challenge);
-            }
-        }
-    }
-
     // 종료된 챌린지 조회하는 API (승패여부 포함)
     public List<ChallengeEndResDto> getMyEndChallenges(Long memberId) {
-        List<Challenge> challengeList = new ArrayList<>();
-        List<ChallengeParticipant> challengeParticipantList = challengeParticipantRepository.findAllByMemberId(memberId);
-
-        // status가 3인 애 추가해주기
-        for(ChallengeParticipant challengeParticipant : challengeParticipantList) {
-            if(Objects.equals(3, challengeParticipant.getChallenge().getStatus())) {
-                challengeList.add(challengeParticipant.getChallenge());
-            }
-        }
-
-        List<ChallengeEndResDto> challengeEndResDtoList = new ArrayList<>();
-        for(Challenge challenge : challengeList) {
-            ChallengeParticipant challengeParticipant = challengeParticipantRepository.findByMemberIdAndChallengeId(memberId, challenge.getId());
-            int challengeParticipantTeamNo = challengeParticipant.getTeam();
-            boolean isWin = challengeParticipantTeamNo == challenge.getWinTeamNo();
-
-            ChallengeEndResDto challengeEndResDto = new ChallengeEndResDto(challenge, isWin);
-            challengeEndResDtoList.add(challengeEndResDto);
-        }
-
-        return challengeEndResDtoList;
+        // 종료(status 3)된 챌린지와 내 팀 승패를 한 번에 조회
+        return challengeParticipantRepository.findMyChallengesWithResult(memberId, 3);
     }
 
-    // Google Cloud platform에 이미지 업로드
-    public String uploadAuthImage(MultipartFile img) throws IOException {
-        BufferedImage originalImage = ImageIO.read(img.getInputStream());
-        BufferedImage resizedImage = Scalr.resize(originalImage, 800);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ImageIO.write(resizedImage, "jpg", outputStream);
-
-        byte[] optimizedImageData = outputStream.toByteArray();
-
-        String uuid = UUID.randomUUID().toString();
-        String ext = img.getContentType();
-
-        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, uuid)
-                .setContentType(ext)
-                .build();
-
-        storage.create(blobInfo, new ByteArrayInputStream(optimizedImageData));
-
-        return GCP_ADDRESS + bucketName + "/" + uuid;
+    private BufferedImage resizeAuthImage(MultipartFile img) throws IOException {
+        try (InputStream inputStream = img.getInputStream()) {
+            return imageUploadService.decode(inputStream);
+        }
     }
 
 }
@@ -0,0 +1,108 @@
+package com.scrooge.scrooge.service.community;
+
+import com.scrooge.scrooge.repository.community.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 환호/야유 수 증감을 메모리에 모아 두었다가 주기적으로 article.good_count / bad_count 에 한 번에 반영한다.
+// 인기 글에 요청이 몰려도 article 행 하나의 락을 두고 경쟁하지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleReviewCounter {
+
+    private final ArticleRepository articleRepository;
+
+    // 게시글 id -> 아직 DB에 반영되지 않은 증감분
+    private final ConcurrentHashMap<Long, PendingCounts> pending = new ConcurrentHashMap<>();
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 반영 (롤백된 환호/야유가 집계되지 않도록)
+    public void addGood(Long articleId, long delta) {
+        afterCommit(() -> add(articleId, delta, 0));
+    }
+
+    public void addBad(Long articleId, long delta) {
+        afterCommit(() -> add(articleId, 0, delta));
+    }
+
+    public long pendingGood(Long articleId) {
+        PendingCounts counts = pending.get(articleId);
+        return counts == null ? 0 : counts.good.sum();
+    }
+
+    public long pendingBad(Long articleId) {
+        PendingCounts counts = pending.get(articleId);
+        return counts == null ? 0 : counts.bad.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${community.review-count.flush-ms:5000}")
+    public void flush() {
+        int flushed = 0;
+        for (Long articleId : pending.keySet()) {
+            long[] deltas = new long[2];
+            // 읽은 만큼만 빼서, 반영하는 동안 들어온 증감은 다음 flush로 넘긴다.
+            pending.computeIfPresent(articleId, (id, counts) -> {
+                deltas[0] = counts.good.sum();
+                deltas[1] = counts.bad.sum();
+                counts.good.add(-deltas[0]);
+                counts.bad.add(-deltas[1]);
+                return null;
+            });
+            if (deltas[0] == 0 && deltas[1] == 0) continue;
+
+            try {
+                articleRepository.addReviewCounts(articleId, deltas[0], deltas[1]);
+                flushed++;
+            } catch (RuntimeException e) {
+                log.warn("게시글 평가 수 반영 실패, 다음 주기에 다시 시도: articleId={}", articleId, e);
+                add(articleId, deltas[0], deltas[1]);
+            }
+        }
+        if (flushed > 0) {
+            log.debug("게시글 평가 수 반영: {}개 게시글", flushed);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // compute 안에서 더해야 flush가 항목을 지우는 것과 겹치지 않는다. (락은 해시 구간 단위)
+    private void add(Long articleId, long goodDelta, long badDelta) {
+        pending.compute(articleId, (id, counts) -> {
+            if (counts == null) {
+                counts = new PendingCounts();
+            }
+            counts.good.add(goodDelta);
+            counts.bad.add(badDelta);
+            return counts;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class PendingCounts {
+        private final LongAdder good = new LongAdder();
+        private final LongAdder bad = new LongAdder();
+    }
+}
@@ -24,6 +24,7 @@ public class CommunityBadService {
     private final ArticleBadRepository articleBadRepository;
     private final QuestService questService;
     private final MemberSelectedQuestRepository memberSelectedQuestRepository;
+    private final ArticleReviewCounter articleReviewCounter;
 
     // Article 싫어요를 구현하는 메서드
     @Transactional
@@ -43,12 +44,14 @@ public class CommunityBadService {
         }
 
         articleBadRepository.save(articleBad);
+        articleReviewCounter.addBad(articleId, 1);
     }
 
     // Article 싫어요를 취소하는 메서드
     @Transactional
     public void cancelCommunityBad(Long articleId, Long memberId) {
-        articleBadRepository.deleteByArticleIdAndMemberId(articleId, memberId);
+        long deleted = articleBadRepository.deleteByArticleIdAndMemberId(articleId, memberId);
+        articleReviewCounter.addBad(articleId, -deleted);
     }
 
     // 사용자가 Article 싫어요를 했는지 검사하는 메서드
@@ -4,19 +4,20 @@ import com.scrooge.scrooge.domain.community.Article;
 import com.scrooge.scrooge.domain.community.ArticleComment;
 import com.scrooge.scrooge.domain.member.Member;
 import com.scrooge.scrooge.dto.communityDto.ArticleCommentDto;
+import com.scrooge.scrooge.dto.communityDto.ArticleCommentPageDto;
 import com.scrooge.scrooge.repository.community.ArticleCommentRepository;
 import com.scrooge.scrooge.repository.community.ArticleRepository;
 import com.scrooge.scrooge.repository.member.MemberRepository;
 import com.scrooge.scrooge.repository.member.MemberSelectedQuestRepository;
 import com.scrooge.scrooge.service.QuestService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.webjars.NotFoundException;
 
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,6 +32,8 @@ public class CommunityCommentService {
     private final QuestService questService;
     private final MemberSelectedQuestRepository memberSelectedQuestRepository;
 
+    // 댓글 한 페이지 최대 개수
+    public static final int MAX_COMMENT_PAGE_SIZE = 100;
 
     @Transactional
     public ArticleCommentDto createCommunityComment(Long memberId, Long articleId, String content) throws NotFoundException {
@@ -56,15 +59,40 @@ public class CommunityCommentService {
 
     // articleId에 해당하는 글의 전체 댓글 조회 API
     public List<ArticleCommentDto> getCommunityComment(Long articleId) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException("해당 게시글을 찾을 수 없습니다."));
+        if (!articleRepository.existsById(articleId)) {
+            throw new NotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
 
-        List<ArticleCommentDto> articleCommentDtos = article.getArticleComments().stream()
+        return articleCommentRepository.findByArticleId(articleId, Pageable.unpaged()).stream()
                 .map(ArticleCommentDto::new)
                 .collect(Collectors.toList());
+    }
 
-        articleCommentDtos.sort(Comparator.comparing(ArticleCommentDto::getId).reversed());
-        return articleCommentDtos;
+    // articleId에 해당하는 글의 댓글을 최신순으로 size개씩 조회하는 API
+    // before는 이전 페이지 마지막 댓글 id, 없으면 가장 최근 댓글부터
+    public ArticleCommentPageDto getCommunityCommentPage(Long articleId, Long before, int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_COMMENT_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (!articleRepository.existsById(articleId)) {
+            throw new NotFoundException("해당 게시글을 찾을 수 없습니다.");
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 가져온다.
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<ArticleComment> articleComments = before == null
+                ? articleCommentRepository.findByArticleId(articleId, pageable)
+                : articleCommentRepository.findByArticleIdBefore(articleId, before, pageable);
+
+        boolean hasNext = articleComments.size() > size;
+        if (hasNext) {
+            articleComments = articleComments.subList(0, size);
+        }
+        Long nextCursor = hasNext ? articleComments.get(articleComments.size() - 1).getId() : null;
+
+        return new ArticleCommentPageDto(articleComments.stream()
+                .map(ArticleCommentDto::new)
+                .collect(Collectors.toList()), nextCursor, hasNext);
     }
 
     // 댓글 수정하는 API
@@ -24,6 +24,7 @@ public class CommunityGoodService {
     private final ArticleGoodRepository articleGoodRepository;
     private final MemberSelectedQuestRepository memberSelectedQuestRepository;
     private final QuestService questService;
+    private final ArticleReviewCounter articleReviewCounter;
 
     /* 환호/야유 구현*/
 
@@ -45,12 +46,14 @@ public class CommunityGoodService {
         }
 
         articleGoodRepository.save(articleGood);
+        articleReviewCounter.addGood(articleId, 1);
     }
 
     // Article 좋아요 취소를 구현하는 메서드
     @Transactional
     public void cancleCommunityGood(Long articleId, Long memberId) {
-        articleGoodRepository.deleteByArticleIdAndMemberId(articleId, memberId);
+        long deleted = articleGoodRepository.deleteByArticleIdAndMemberId(articleId, memberId);
+        articleReviewCounter.addGood(articleId, -deleted);
     }
 
     // 사용자가 Article을 좋아요 했는지 검사하는 메서드
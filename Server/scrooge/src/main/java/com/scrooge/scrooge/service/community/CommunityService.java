@@ -1,12 +1,12 @@
 package com.scrooge.scrooge.service.community;
 
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
 import com.scrooge.scrooge.config.FileUploadProperties;
 import com.scrooge.scrooge.domain.community.Article;
 import com.scrooge.scrooge.domain.community.ArticleBad;
 import com.scrooge.scrooge.domain.member.Member;
 import com.scrooge.scrooge.dto.communityDto.ArticleDto;
+import com.scrooge.scrooge.dto.communityDto.ArticleFeedDto;
+import com.scrooge.scrooge.dto.communityDto.ArticleReactionDto;
 import com.scrooge.scrooge.dto.communityDto.ArticleReviewCountDto;
 import com.scrooge.scrooge.dto.member.ArticleMemberDto;
 import com.scrooge.scrooge.repository.community.ArticleBadRepository;
@@ -14,28 +14,31 @@ import com.scrooge.scrooge.repository.community.ArticleGoodRepository;
 import com.scrooge.scrooge.repository.community.ArticleRepository;
 import com.scrooge.scrooge.repository.member.MemberRepository;
 import com.scrooge.scrooge.repository.member.MemberSelectedQuestRepository;
+import com.scrooge.scrooge.service.ImageUploadService;
 import com.scrooge.scrooge.service.QuestService;
 import lombok.RequiredArgsConstructor;
-import org.imgscalr.Scalr;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.webjars.NotFoundException;
 
-import javax.imageio.ImageIO;
 import javax.transaction.Transactional;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,12 +51,14 @@ public class CommunityService {
     private final FileUploadProperties fileUploadProperties;
     private final MemberSelectedQuestRepository memberSelectedQuestRepository;
     private final QuestService questService;
+    private final ArticleReviewCounter articleReviewCounter;
     private final ArticleGoodRepository articleGoodRepository;
     private final ArticleBadRepository articleBadRepository;
 
-    private final Storage storage;
-    private final String bucketName = "scroogestorage";
-    private final String GCP_ADDRESS = "https://storage.googleapis.com/";
+    private final ImageUploadService imageUploadService;
+
+    // 피드 한 페이지 최대 글 수
+    public static final int MAX_FEED_SIZE = 50;
 
 
     // 커뮤니티 글을 등록하는 메서드
@@ -76,26 +81,8 @@ public class CommunityService {
             questService.completeQuest(4L, memberId);
         }
 
-        // 이미지 파일 등록 구현
-        // 1. 이미지 최적화
-        BufferedImage originalImage = ImageIO.read(img.getInputStream());
-        BufferedImage resizedImage = Scalr.resize(originalImage, 800);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ImageIO.write(resizedImage, "jpg", outputStream);
-
-        byte[] optimizedImageData = outputStream.toByteArray();
-
-        String uuid = UUID.randomUUID().toString();
-        String ext = img.getContentType();
-
-        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, uuid)
-                .setContentType(ext)
-                .build();
-
-        storage.create(blobInfo, new ByteArrayInputStream(optimizedImageData));
-
-        String imgAddress = GCP_ADDRESS + bucketName + "/" + uuid;
+        // 이미지 파일 등록 구현 (리사이즈 후 업로드)
+        String imgAddress = imageUploadService.uploadResized(img);
         article.setImgAdress(imgAddress);
 
         articleRepository.save(article); // DB에 article 저장
@@ -105,19 +92,73 @@ public class CommunityService {
 
     // 커뮤니티 전체 글을 조회하는 API
     public List<ArticleDto> getAllCommunityArticles() {
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
-        List<Article> articles = articleRepository.findAll(sort);
+        List<Article> articles = articleRepository.findAllWithMember();
         return articles.stream()
-                .map(ArticleDto::new)
+                .map(this::toArticleDto)
                 .collect(Collectors.toList());
     }
 
+    // 커뮤니티 피드를 커서 기준으로 size개씩 조회하는 API
+    // cursor는 이전 페이지 마지막 글의 (createdAt, id), 없으면 최신 글부터
+    // 디코딩할 수 없는 cursor는 IllegalArgumentException (컨트롤러에서 400)
+    public ArticleFeedDto getCommunityFeed(String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 가져온다.
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Article> articles;
+        if (cursor == null || cursor.isEmpty()) {
+            articles = articleRepository.findFeed(pageable);
+        }
+        else {
+            String[] decoded = decodeFeedCursor(cursor);
+            articles = articleRepository.findFeedAfter(LocalDateTime.parse(decoded[0]), Long.parseLong(decoded[1]), pageable);
+        }
+
+        boolean hasNext = articles.size() > size;
+        if (hasNext) {
+            articles = articles.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Article last = articles.get(articles.size() - 1);
+            nextCursor = encodeFeedCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return new ArticleFeedDto(articles.stream()
+                .map(this::toArticleDto)
+                .collect(Collectors.toList()), nextCursor, hasNext);
+    }
+
+    private String encodeFeedCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeFeedCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] decoded = raw.split(",");
+            if (decoded.length != 2) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+            LocalDateTime.parse(decoded[0]);
+            Long.parseLong(decoded[1]);
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+
     // 커뮤니티 글을 상세 조회하는 API
     public ArticleDto getCommunityArticle(Long articleId) throws NotFoundException {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
 
-        return new ArticleDto(article);
+        return toArticleDto(article);
     }
 
     // 커뮤니티 글을 수정하는 API
@@ -139,11 +180,41 @@ public class CommunityService {
         articleRepository.delete(article);
     }
 
+    // article의 환호/야유 수 컬럼 + 아직 반영되지 않은 증감분 (COUNT 쿼리 없이)
     public ArticleReviewCountDto countArticleReview(Long articleId) {
-        Integer goodCount = articleGoodRepository.countByArticleId(articleId);
-        Integer badCount = articleBadRepository.countByArticleId(articleId);
+        Optional<Article> article = articleRepository.findById(articleId);
+        long goodCount = article.map(Article::getGoodCount).orElse(0L);
+        long badCount = article.map(Article::getBadCount).orElse(0L);
+
+        return new ArticleReviewCountDto(
+                (int) (goodCount + articleReviewCounter.pendingGood(articleId)),
+                (int) (badCount + articleReviewCounter.pendingBad(articleId)));
+    }
+
+    // 여러 게시글에 대해 사용자의 환호/야유 여부를 한 번에 조회 (환호, 야유 각각 IN 쿼리 한 번)
+    public List<ArticleReactionDto> getMyReactions(Long memberId, List<Long> articleIds) {
+        Set<Long> ids = new LinkedHashSet<>(articleIds);
+        if (ids.size() > MAX_FEED_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_FEED_SIZE + "개 입니다.");
+        }
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> goodIds = new HashSet<>(articleGoodRepository.findArticleIdsByMemberIdAndArticleIdIn(memberId, ids));
+        Set<Long> badIds = new HashSet<>(articleBadRepository.findArticleIdsByMemberIdAndArticleIdIn(memberId, ids));
+
+        return ids.stream()
+                .map(id -> new ArticleReactionDto(id, goodIds.contains(id), badIds.contains(id)))
+                .collect(Collectors.toList());
+    }
 
-        return new ArticleReviewCountDto(goodCount, badCount);
+    // 환호/야유 수에 아직 DB에 반영되지 않은 증감분을 더해 반환
+    private ArticleDto toArticleDto(Article article) {
+        ArticleDto articleDto = new ArticleDto(article);
+        articleDto.setGoodCount(articleDto.getGoodCount() + articleReviewCounter.pendingGood(article.getId()));
+        articleDto.setBadCount(articleDto.getBadCount() + articleReviewCounter.pendingBad(article.getId()));
+        return articleDto;
     }
 
 }
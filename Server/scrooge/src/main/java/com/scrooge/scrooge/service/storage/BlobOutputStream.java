@@ -0,0 +1,45 @@
+package com.scrooge.scrooge.service.storage;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// blob을 쓰는 스트림. 다 쓴 뒤 commit()을 호출해야 저장이 완료되고,
+// commit 없이 닫으면(쓰는 도중 예외 등) 쓰던 내용은 버려져서 잘린 파일이 제공되지 않는다.
+public abstract class BlobOutputStream extends FilterOutputStream {
+
+    private boolean finished;
+
+    protected BlobOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+    }
+
+    public void commit() throws IOException {
+        if (finished) {
+            throw new IOException("이미 닫힌 스트림입니다.");
+        }
+        out.flush();
+        out.close();
+        publish();
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            finished = true;
+            discard();
+        }
+    }
+
+    // 다 쓴 내용을 제공되는 위치에 반영
+    protected abstract void publish() throws IOException;
+
+    // 쓰던 내용을 버린다.
+    protected abstract void discard() throws IOException;
+}
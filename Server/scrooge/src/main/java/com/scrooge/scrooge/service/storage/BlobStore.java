@@ -0,0 +1,17 @@
+package com.scrooge.scrooge.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 업로드 이미지 저장소 (storage.type=gcs | local)
+public interface BlobStore {
+
+    // key로 저장할 스트림을 연다. commit()을 호출해야 저장이 완료된다.
+    BlobOutputStream openOutputStream(String key, String contentType) throws IOException;
+
+    // 저장된 blob을 클라이언트가 내려받을 주소
+    String getAddress(String key);
+
+    // 이 저장소의 주소라면 내용을 읽는 스트림을, 다른 곳의 주소라면 null을 반환
+    InputStream openInputStream(String address) throws IOException;
+}
@@ -0,0 +1,61 @@
+package com.scrooge.scrooge.service.storage;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+
+// Google Cloud Storage 버킷에 저장
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "gcs", matchIfMissing = true)
+public class GcsBlobStore implements BlobStore {
+
+    private static final String GCP_ADDRESS = "https://storage.googleapis.com/";
+
+    private final Storage storage;
+    private final String bucketName;
+
+    public GcsBlobStore(Storage storage, @Value("${spring.cloud.gcp.storage.bucket:scroogestorage}") String bucketName) {
+        this.storage = storage;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public BlobOutputStream openOutputStream(String key, String contentType) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, key)
+                .setContentType(contentType)
+                .build();
+        WriteChannel writer = storage.writer(blobInfo);
+
+        // 업로드 세션은 채널을 닫을 때 완료되므로, commit 없이 닫히면 채널을 닫지 않고 버린다. (객체가 만들어지지 않는다)
+        return new BlobOutputStream(Channels.newOutputStream(writer)) {
+            @Override
+            protected void publish() {
+            }
+
+            @Override
+            protected void discard() {
+            }
+        };
+    }
+
+    @Override
+    public String getAddress(String key) {
+        return GCP_ADDRESS + bucketName + "/" + key;
+    }
+
+    @Override
+    public InputStream openInputStream(String address) {
+        String prefix = GCP_ADDRESS + bucketName + "/";
+        if (!address.startsWith(prefix)) {
+            return null;
+        }
+        return new ByteArrayInputStream(storage.readAllBytes(bucketName, address.substring(prefix.length())));
+    }
+}
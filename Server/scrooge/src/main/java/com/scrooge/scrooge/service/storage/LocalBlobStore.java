@@ -0,0 +1,81 @@
+package com.scrooge.scrooge.service.storage;
+
+import com.scrooge.scrooge.config.FileUploadProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// file.upload.location 아래 uploads 디렉터리에 저장하고 /assets/uploads/{key} 로 제공 (AssetController)
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    public static final String URL_PREFIX = "/assets/uploads/";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalBlobStore(FileUploadProperties fileUploadProperties,
+                          @Value("${storage.local.base-url:}") String baseUrl) throws IOException {
+        this.root = Paths.get(fileUploadProperties.getUploadLocation(), "uploads").toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        Files.createDirectories(root);
+    }
+
+    // 임시 파일에 쓰고 commit할 때 최종 파일로 옮겨서, 쓰는 도중이거나 실패한 파일이 제공되지 않도록 한다.
+    @Override
+    public BlobOutputStream openOutputStream(String key, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = Files.createTempFile(root, key, ".tmp");
+        FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        return new BlobOutputStream(Channels.newOutputStream(channel)) {
+            @Override
+            protected void publish() throws IOException {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            @Override
+            protected void discard() throws IOException {
+                try {
+                    out.close();
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String getAddress(String key) {
+        return baseUrl + URL_PREFIX + key;
+    }
+
+    @Override
+    public InputStream openInputStream(String address) throws IOException {
+        int index = address.indexOf(URL_PREFIX);
+        if (index < 0) {
+            return null;
+        }
+        return Files.newInputStream(resolve(address.substring(index + URL_PREFIX.length())));
+    }
+
+    // 저장 디렉터리 밖의 경로는 허용하지 않는다.
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.getParent().equals(root)) {
+            throw new IllegalArgumentException("잘못된 파일 이름입니다: " + key);
+        }
+        return path;
+    }
+}
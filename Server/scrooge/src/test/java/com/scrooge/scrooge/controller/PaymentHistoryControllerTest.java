@@ -0,0 +1,57 @@
+package com.scrooge.scrooge.controller;
+
+import com.scrooge.scrooge.config.jwt.JwtTokenProvider;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryDto;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryRespDto;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import com.scrooge.scrooge.service.PaymentHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// 같은 멱등키 요청이 동시에 들어와 유니크 제약에 걸렸을 때 먼저 등록된 소비내역을 돌려주는지 확인
+public class PaymentHistoryControllerTest {
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final PaymentHistoryService paymentHistoryService = mock(PaymentHistoryService.class);
+    private final PaymentHistoryController paymentHistoryController =
+            new PaymentHistoryController(jwtTokenProvider, paymentHistoryService, mock(MemberRepository.class));
+
+    @BeforeEach
+    public void setUp() {
+        when(jwtTokenProvider.extractMemberId("token")).thenReturn(1L);
+        when(paymentHistoryService.addPaymentHistory(anyLong(), any())).thenThrow(new DataIntegrityViolationException("uk_payment_history_member_idempotency_key"));
+        when(paymentHistoryService.duplicatedPaymentHistoryResp(anyLong())).thenCallRealMethod();
+    }
+
+    @Test
+    public void uniqueViolationReturnsFirstRegisteredPayment() {
+        when(paymentHistoryService.findDuplicatedPaymentHistoryId(1L, "a")).thenReturn(7L);
+
+        ResponseEntity<PaymentHistoryRespDto> response = paymentHistoryController.addPaymentHistory(payment("a"), "Bearer token");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().getDuplicated());
+        assertEquals(7L, response.getBody().getId());
+    }
+
+    @Test
+    public void uniqueViolationWithoutKeyIsRethrown() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> paymentHistoryController.addPaymentHistory(payment(null), "Bearer token"));
+    }
+
+    private PaymentHistoryDto payment(String idempotencyKey) {
+        PaymentHistoryDto paymentHistoryDto = new PaymentHistoryDto();
+        paymentHistoryDto.setIdempotencyKey(idempotencyKey);
+        paymentHistoryDto.setAmount(1000);
+        return paymentHistoryDto;
+    }
+}
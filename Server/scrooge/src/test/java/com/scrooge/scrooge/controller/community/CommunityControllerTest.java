@@ -0,0 +1,27 @@
+package com.scrooge.scrooge.controller.community;
+
+import com.scrooge.scrooge.config.jwt.JwtTokenProvider;
+import com.scrooge.scrooge.service.community.CommunityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CommunityControllerTest {
+
+    private final CommunityService communityService = mock(CommunityService.class);
+    private final CommunityController communityController = new CommunityController(communityService, mock(JwtTokenProvider.class));
+
+    // 잘못된 cursor는 다른 잘못된 요청과 같이 400
+    @Test
+    public void malformedFeedCursorIsBadRequest() {
+        when(communityService.getCommunityFeed("broken", 20)).thenThrow(new IllegalArgumentException("잘못된 cursor 입니다."));
+
+        ResponseEntity<?> response = communityController.getCommunityFeed("broken", 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("잘못된 cursor 입니다.", response.getBody());
+    }
+}
@@ -0,0 +1,71 @@
+package com.scrooge.scrooge.repository;
+
+import com.scrooge.scrooge.domain.community.Article;
+import com.scrooge.scrooge.domain.member.Member;
+import com.scrooge.scrooge.repository.community.ArticleRepository;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ArticleRepositoryTest {
+
+    // 다른 테스트 데이터보다 뒤에 오도록 먼 과거 시각을 쓴다.
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2000, 1, 1, 12, 0, 0);
+
+    @Autowired
+    ArticleRepository articleRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // created_at 이 같은 글은 id 로 이어서 가져와야 페이지 경계에서 빠지거나 겹치지 않는다.
+    @Test
+    public void feedAfterBreaksTiesById() {
+        Member member = createMember();
+        Article older = createArticle(member);
+        Article first = createArticle(member);
+        Article second = createArticle(member);
+        Article third = createArticle(member);
+
+        // @CreationTimestamp 가 저장 시각을 넣으므로 DB에서 직접 맞춘다.
+        jdbcTemplate.update("UPDATE article SET created_at = ? WHERE id IN (?, ?, ?)", CREATED_AT, first.getId(), second.getId(), third.getId());
+        jdbcTemplate.update("UPDATE article SET created_at = ? WHERE id = ?", CREATED_AT.minusSeconds(1), older.getId());
+
+        // 같은 시각의 가운데 글(second) 다음부터: 같은 시각의 더 작은 id, 그 다음 더 이전 시각
+        List<Long> ids = articleRepository.findFeedAfter(CREATED_AT, second.getId(), PageRequest.of(0, 10)).stream()
+                .map(Article::getId)
+                .filter(id -> Arrays.asList(older.getId(), first.getId(), second.getId(), third.getId()).contains(id))
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(first.getId(), older.getId()), ids);
+    }
+
+    private Article createArticle(Member member) {
+        Article article = new Article();
+        article.setContent("test");
+        article.setMember(member);
+        return articleRepository.save(article);
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setNickname("test");
+        member.setEmail("test@test.com");
+        member.setPassword("test");
+        return memberRepository.save(member);
+    }
+}
@@ -0,0 +1,88 @@
+package com.scrooge.scrooge.repository;
+
+import com.scrooge.scrooge.domain.Level;
+import com.scrooge.scrooge.domain.member.Member;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+public class MemberRepositoryTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    LevelRepository levelRepository;
+
+    // 챌린지 정산처럼 승리마다 addExp -> levelUp 을 반복하면 LevelService.levelUp 과 같게 한 번에 한 단계씩만 오른다.
+    @Test
+    public void addExpThenLevelUpPerWin() {
+        Level first = createLevel(900, 1);
+        Level second = createLevel(100, 2);
+        Level third = createLevel(100, 3);
+        // levelUp 쿼리는 다음 레벨을 level_id + 1 로 찾는다.
+        assumeTrue(second.getId() == first.getId() + 1 && third.getId() == second.getId() + 1);
+
+        Member member = createMember(first);
+        List<Long> memberIds = Collections.singletonList(member.getId());
+
+        // 첫 번째 승리: 500 < 900 이라 레벨업 없음
+        assertEquals(1, memberRepository.addExp(memberIds, 500));
+        assertEquals(0, memberRepository.levelUp(memberIds));
+
+        // 두 번째 승리: 1000 >= 900 이라 한 단계만 오르고 남은 경험치는 100
+        assertEquals(1, memberRepository.addExp(memberIds, 500));
+        assertEquals(1, memberRepository.levelUp(memberIds));
+
+        Member foundMember = memberRepository.findById(member.getId()).orElse(null);
+        assertNotNull(foundMember);
+        assertEquals(second.getId(), foundMember.getLevel().getId());
+        assertEquals(100, foundMember.getExp());
+        assertEquals(2, foundMember.getRemainGacha());
+    }
+
+    // 다음 레벨이 없으면 경험치가 넘쳐도 그대로 둔다.
+    @Test
+    public void levelUpWithoutNextLevel() {
+        Level last = createLevel(100, 1);
+        assumeTrue(!levelRepository.existsById(last.getId() + 1));
+
+        Member member = createMember(last);
+        List<Long> memberIds = Collections.singletonList(member.getId());
+
+        memberRepository.addExp(memberIds, 500);
+        assertEquals(0, memberRepository.levelUp(memberIds));
+
+        Member foundMember = memberRepository.findById(member.getId()).orElse(null);
+        assertNotNull(foundMember);
+        assertEquals(last.getId(), foundMember.getLevel().getId());
+        assertEquals(500, foundMember.getExp());
+    }
+
+    private Level createLevel(int requiredExp, int gacha) {
+        Level level = new Level();
+        level.setLevel(1);
+        level.setRequiredExp(requiredExp);
+        level.setGacha(gacha);
+        return levelRepository.save(level);
+    }
+
+    private Member createMember(Level level) {
+        Member member = new Member();
+        member.setNickname("test");
+        member.setEmail("test@test.com");
+        member.setPassword("test");
+        member.setExp(0);
+        member.setRemainGacha(0);
+        member.setLevel(level);
+        return memberRepository.save(member);
+    }
+}
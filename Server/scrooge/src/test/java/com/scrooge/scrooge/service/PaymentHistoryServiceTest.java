@@ -0,0 +1,144 @@
+package com.scrooge.scrooge.service;
+
+import com.scrooge.scrooge.domain.PaymentHistory;
+import com.scrooge.scrooge.domain.member.Member;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryBatchRespDto;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryDto;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryRespDto;
+import com.scrooge.scrooge.repository.PaymentHistoryRepository;
+import com.scrooge.scrooge.repository.member.MemberOwningBadgeRepository;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import com.scrooge.scrooge.repository.member.MemberSelectedQuestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 멱등키로 중복 등록을 막는 경로 (요청 안의 중복, 이미 저장된 키, 캐시에 있는 키)
+public class PaymentHistoryServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final PaymentHistoryRepository paymentHistoryRepository = mock(PaymentHistoryRepository.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final PaymentSummaryService paymentSummaryService = mock(PaymentSummaryService.class);
+    private final PaymentIdempotencyCache paymentIdempotencyCache = new PaymentIdempotencyCache(100, 600);
+
+    private final PaymentHistoryService paymentHistoryService = new PaymentHistoryService(paymentHistoryRepository, memberRepository,
+            mock(QuestService.class), mock(MemberSelectedQuestRepository.class), mock(BadgeService.class),
+            mock(MemberOwningBadgeRepository.class), mock(LevelService.class), paymentSummaryService,
+            mock(StreakRankingService.class), paymentIdempotencyCache);
+
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    public void setUp() {
+        // 커밋 후 캐시에 올리는 동기화를 등록할 수 있도록 트랜잭션 동기화를 켠다.
+        TransactionSynchronizationManager.initSynchronization();
+
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(memberRepository.getReferenceById(MEMBER_ID)).thenReturn(new Member());
+        when(memberRepository.addWeeklyConsum(eq(MEMBER_ID), anyInt())).thenReturn(1);
+        when(paymentHistoryRepository.save(any(PaymentHistory.class))).thenAnswer(invocation -> {
+            PaymentHistory paymentHistory = invocation.getArgument(0);
+            paymentHistory.setId(nextId.getAndIncrement());
+            return paymentHistory;
+        });
+        when(paymentHistoryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PaymentHistory> paymentHistories = invocation.getArgument(0);
+            paymentHistories.forEach(paymentHistory -> paymentHistory.setId(nextId.getAndIncrement()));
+            return paymentHistories;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void batchRegistersRepeatedKeyOnce() {
+        PaymentHistoryBatchRespDto resp = paymentHistoryService.addPaymentHistories(MEMBER_ID,
+                Arrays.asList(payment("a", 1000), payment("a", 1000), payment(null, 500)));
+
+        assertEquals(2, resp.getCount());
+        assertEquals(1, resp.getDuplicatedCount());
+        assertEquals(Arrays.asList(100L, 100L, 101L), resp.getIds());
+        verify(paymentHistoryRepository).saveAll(argThat(paymentHistories -> ((Collection<?>) paymentHistories).size() == 2));
+        verify(memberRepository).addWeeklyConsum(MEMBER_ID, 1500);
+    }
+
+    @Test
+    public void batchSkipsStoredKey() {
+        PaymentHistory stored = new PaymentHistory();
+        stored.setId(7L);
+        stored.setIdempotencyKey("a");
+        when(paymentHistoryRepository.findByMemberIdAndIdempotencyKeyIn(eq(MEMBER_ID), anyCollection()))
+                .thenReturn(Collections.singletonList(stored));
+
+        PaymentHistoryBatchRespDto resp = paymentHistoryService.addPaymentHistories(MEMBER_ID,
+                Arrays.asList(payment("a", 1000), payment("b", 2000)));
+
+        assertEquals(1, resp.getCount());
+        assertEquals(1, resp.getDuplicatedCount());
+        assertEquals(Arrays.asList(7L, 100L), resp.getIds());
+        verify(memberRepository).addWeeklyConsum(MEMBER_ID, 2000);
+        // DB에서 찾은 키는 바로 캐시에 올린다.
+        assertEquals(7L, paymentIdempotencyCache.get(MEMBER_ID, "a"));
+    }
+
+    @Test
+    public void batchUsesCachedKeyWithoutLookup() {
+        paymentIdempotencyCache.put(MEMBER_ID, "a", 7L);
+
+        PaymentHistoryBatchRespDto resp = paymentHistoryService.addPaymentHistories(MEMBER_ID,
+                Arrays.asList(payment("a", 1000), payment("b", 2000)));
+
+        assertEquals(Arrays.asList(7L, 100L), resp.getIds());
+        verify(paymentHistoryRepository).findByMemberIdAndIdempotencyKeyIn(MEMBER_ID, Collections.singleton("b"));
+    }
+
+    @Test
+    public void singleReturnsCachedKeyWithoutSaving() {
+        paymentIdempotencyCache.put(MEMBER_ID, "a", 7L);
+
+        PaymentHistoryRespDto resp = paymentHistoryService.addPaymentHistory(MEMBER_ID, payment("a", 1000));
+
+        assertTrue(resp.getDuplicated());
+        assertEquals(7L, resp.getId());
+        verify(paymentHistoryRepository, never()).findByMemberIdAndIdempotencyKey(any(), any());
+        verify(paymentHistoryRepository, never()).save(any());
+        verify(memberRepository, never()).addWeeklyConsum(any(), anyInt());
+    }
+
+    @Test
+    public void singleCachesKeyOnlyAfterCommit() {
+        PaymentHistoryRespDto resp = paymentHistoryService.addPaymentHistory(MEMBER_ID, payment("a", 1000));
+
+        assertFalse(resp.getDuplicated());
+        assertNull(paymentIdempotencyCache.get(MEMBER_ID, "a"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(resp.getId(), paymentIdempotencyCache.get(MEMBER_ID, "a"));
+    }
+
+    private PaymentHistoryDto payment(String idempotencyKey, int amount) {
+        PaymentHistoryDto paymentHistoryDto = new PaymentHistoryDto();
+        paymentHistoryDto.setIdempotencyKey(idempotencyKey);
+        paymentHistoryDto.setAmount(amount);
+        paymentHistoryDto.setPaidAt(LocalDateTime.of(2023, 3, 1, 12, 0));
+        return paymentHistoryDto;
+    }
+}
@@ -0,0 +1,137 @@
+package com.scrooge.scrooge.service;
+
+import com.scrooge.scrooge.domain.PaymentDailySummary;
+import com.scrooge.scrooge.domain.member.Member;
+import com.scrooge.scrooge.dto.paymentHistory.CategorySummaryTotal;
+import com.scrooge.scrooge.dto.paymentHistory.PaymentHistoryDto;
+import com.scrooge.scrooge.repository.PaymentDailyCategorySummaryRepository;
+import com.scrooge.scrooge.repository.PaymentDailySummaryRepository;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 소비내역 등록/수정 때 쌓는 일일 집계가 원본 소비내역으로 다시 만든 집계(rebuild)와 같은지 확인한다.
+@SpringBootTest
+public class PaymentSummaryServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 3, 1);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    @Autowired
+    PaymentHistoryService paymentHistoryService;
+
+    @Autowired
+    PaymentSummaryService paymentSummaryService;
+
+    @Autowired
+    PaymentDailySummaryRepository paymentDailySummaryRepository;
+
+    @Autowired
+    PaymentDailyCategorySummaryRepository paymentDailyCategorySummaryRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    public void rollupMatchesRebuild() throws Exception {
+        Long memberId = createMember().getId();
+
+        // 시간대 경계 (새벽 0~6시, 오전 6~12시, 오후 12~18시, 밤 18~24시)
+        add(memberId, DAY.atTime(0, 0), 1000);
+        add(memberId, DAY.atTime(5, 59, 59), 2000);
+        add(memberId, DAY.atTime(6, 0), 3000);
+        add(memberId, DAY.atTime(11, 59, 59), 4000);
+        add(memberId, DAY.atTime(12, 0), 5000);
+        add(memberId, DAY.atTime(17, 59, 59), 6000);
+        add(memberId, DAY.atTime(18, 0), 7000);
+        Long lastOfDay = add(memberId, DAY.atTime(23, 59, 59), 8000);
+        Long firstOfNextDay = add(memberId, NEXT_DAY.atTime(0, 0), 9000);
+
+        // 카테고리는 등록 후 수정으로만 정해진다. (결제 시각은 수정할 수 없어서 날짜는 그대로)
+        // 날짜 경계의 두 결제에 카테고리를 붙이고, 하나는 카테고리와 금액을 한 번 더 바꾼다.
+        update(memberId, lastOfDay, "식비", 8000);
+        update(memberId, firstOfNextDay, "식비", 9000);
+        update(memberId, lastOfDay, "교통", 8500);
+
+        assertArrayEquals(new long[]{36500, 8, 2, 2, 2, 2}, daily(memberId, DAY));
+        assertArrayEquals(new long[]{9000, 1, 1, 0, 0, 0}, daily(memberId, NEXT_DAY));
+        assertEquals(categories("교통", 8500, 1), categoryTotals(memberId, DAY));
+        assertEquals(categories("식비", 9000, 1), categoryTotals(memberId, NEXT_DAY));
+        assertEquals(36500, paymentSummaryService.getDailyTotal(memberId, DAY));
+
+        long[] day = daily(memberId, DAY);
+        long[] nextDay = daily(memberId, NEXT_DAY);
+        Map<String, String> dayCategories = categoryTotals(memberId, DAY);
+        Map<String, String> nextDayCategories = categoryTotals(memberId, NEXT_DAY);
+
+        paymentSummaryService.rebuild(memberId);
+
+        assertArrayEquals(day, daily(memberId, DAY));
+        assertArrayEquals(nextDay, daily(memberId, NEXT_DAY));
+        assertEquals(dayCategories, categoryTotals(memberId, DAY));
+        assertEquals(nextDayCategories, categoryTotals(memberId, NEXT_DAY));
+    }
+
+    private Long add(Long memberId, LocalDateTime paidAt, int amount) {
+        PaymentHistoryDto paymentHistoryDto = new PaymentHistoryDto();
+        paymentHistoryDto.setPaidAt(paidAt);
+        paymentHistoryDto.setAmount(amount);
+        paymentHistoryDto.setUsedAt("test");
+        paymentHistoryDto.setCardName("test");
+        return paymentHistoryService.addPaymentHistory(memberId, paymentHistoryDto).getId();
+    }
+
+    private void update(Long memberId, Long paymentHistoryId, String category, int amount) throws Exception {
+        PaymentHistoryDto paymentHistoryDto = new PaymentHistoryDto();
+        paymentHistoryDto.setId(paymentHistoryId);
+        paymentHistoryDto.setCategory(category);
+        paymentHistoryDto.setAmount(amount);
+        paymentHistoryDto.setUsedAt("test");
+        paymentHistoryDto.setCardName("test");
+        paymentHistoryService.updatePaymentHistory(memberId, paymentHistoryDto);
+    }
+
+    // {총액, 횟수, 새벽, 오전, 오후, 밤}
+    private long[] daily(Long memberId, LocalDate date) {
+        PaymentDailySummary summary = paymentDailySummaryRepository.findByMemberIdAndSummaryDate(memberId, date).orElse(null);
+        assertNotNull(summary);
+        return new long[]{summary.getTotalAmount(), summary.getPaymentCount(), summary.getDawnCount(),
+                summary.getMorningCount(), summary.getAfternoonCount(), summary.getNightCount()};
+    }
+
+    // 카테고리 -> "총액/횟수" (수정으로 0건이 된 카테고리 행은 rebuild에서는 만들어지지 않으므로 제외)
+    private Map<String, String> categoryTotals(Long memberId, LocalDate date) {
+        Map<String, String> totals = new HashMap<>();
+        for (CategorySummaryTotal total : paymentDailyCategorySummaryRepository.sumByMemberIdAndDateRange(memberId, date, date.plusDays(1))) {
+            if (total.getPaymentCount() > 0) {
+                totals.put(total.getCategory(), total.getTotalAmount() + "/" + total.getPaymentCount());
+            }
+        }
+        return totals;
+    }
+
+    private Map<String, String> categories(Object... categoryAmountCount) {
+        Map<String, String> totals = new HashMap<>();
+        for (int i = 0; i < categoryAmountCount.length; i += 3) {
+            totals.put((String) categoryAmountCount[i], categoryAmountCount[i + 1] + "/" + categoryAmountCount[i + 2]);
+        }
+        return totals;
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setNickname("test");
+        member.setEmail("test@test.com");
+        member.setPassword("test");
+        member.setWeeklyConsum(0);
+        return memberRepository.save(member);
+    }
+}
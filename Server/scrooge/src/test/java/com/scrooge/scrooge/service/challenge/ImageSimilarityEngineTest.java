@@ -0,0 +1,121 @@
+package com.scrooge.scrooge.service.challenge;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 기대값은 image-analysis/main.py 와 같은 계산(cv2.cvtColor BGR2GRAY, calcHist 256구간, compareHist HISTCMP_CORREL)으로 구한 값
+// 리사이즈는 cv2.resize와 보간이 달라서, 300x300이 아닌 이미지는 보간과 상관없는 값만 확인한다.
+public class ImageSimilarityEngineTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final ImageSimilarityEngine engine = new ImageSimilarityEngine();
+
+    @Test
+    public void grayMatchesOpenCv() {
+        assertEquals(0, engine.gray(0, 0, 0));
+        assertEquals(255, engine.gray(255, 255, 255));
+        assertEquals(76, engine.gray(255, 0, 0));
+        // 실수 계산(0.299, 0.587, 0.114)으로는 19가 나오는 색
+        assertEquals(20, engine.gray(0, 7, 135));
+    }
+
+    @Test
+    public void histogramCountsGrayLevels() {
+        double[] histogram = engine.histogram(bands(Color.BLACK, new Color(128, 128, 128), Color.WHITE));
+
+        assertEquals(30000, histogram[0], DELTA);
+        assertEquals(30000, histogram[128], DELTA);
+        assertEquals(30000, histogram[255], DELTA);
+        assertEquals(90000, Arrays.stream(histogram).sum(), DELTA);
+    }
+
+    @Test
+    public void histogramOfOtherSizesIsResizedTo300() {
+        // 한 가지 색이면 보간 방식과 상관없이 모든 픽셀이 같은 값
+        double[] solid = engine.histogram(fill(new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB), new Color(0, 7, 135)));
+        assertEquals(90000, solid[20], DELTA);
+
+        // 띠 경계에서만 색이 섞이므로 대부분은 원래 값에 남는다
+        double[] banded = engine.histogram(bands(900, 450, Color.BLACK, new Color(128, 128, 128), Color.WHITE));
+        assertEquals(90000, Arrays.stream(banded).sum(), DELTA);
+        for (int level : new int[]{0, 128, 255}) {
+            assertTrue(banded[level] >= 29000, "level " + level + ": " + banded[level]);
+        }
+    }
+
+    @Test
+    public void compareMatchesOpenCvCorrelation() {
+        BufferedImage threeBands = bands(Color.BLACK, new Color(128, 128, 128), Color.WHITE);
+        BufferedImage twoBands = bands(Color.BLACK, Color.WHITE);
+        BufferedImage blueBand = bands(new Color(0, 7, 135), Color.BLACK, Color.WHITE);
+        BufferedImage grayBand = bands(new Color(20, 20, 20), Color.BLACK, Color.WHITE);
+
+        assertEquals(1.0, engine.compare(threeBands, threeBands), DELTA);
+        assertEquals(0.8148877191065381, engine.compare(threeBands, twoBands), DELTA);
+        // 인증 기준(0.65) 바로 위
+        assertEquals(0.6627140974967062, engine.compare(threeBands, blueBand), DELTA);
+        // 파란 띠가 OpenCV처럼 20으로 바뀌어야 같은 히스토그램이 된다
+        assertEquals(1.0, engine.compare(blueBand, grayBand), DELTA);
+    }
+
+    @Test
+    public void correlationOfFixedHistograms() {
+        double[] histogram = new double[256];
+        double[] scaled = new double[256];
+        double[] reversed = new double[256];
+        for (int i = 0; i < 256; i++) {
+            histogram[i] = i;
+            scaled[i] = 2 * i + 5;
+            reversed[i] = 255 - i;
+        }
+
+        assertEquals(1.0, engine.correlation(histogram, scaled), DELTA);
+        assertEquals(-1.0, engine.correlation(histogram, reversed), DELTA);
+        // OpenCV와 같이 분산이 0이면 1
+        assertEquals(1.0, engine.correlation(new double[256], histogram), DELTA);
+    }
+
+    @Test
+    public void encodedHistogramRoundTrips() {
+        double[] histogram = engine.histogram(bands(Color.BLACK, new Color(0, 7, 135), Color.WHITE));
+
+        assertArrayEquals(histogram, engine.decodeHistogram(engine.encodeHistogram(histogram)), DELTA);
+    }
+
+    // 300x300 이미지를 세로 띠로 같은 폭씩 칠한다. (크기가 같으면 리사이즈로 색이 섞이지 않는다)
+    private BufferedImage bands(Color... colors) {
+        return bands(300, 300, colors);
+    }
+
+    private BufferedImage bands(int imageWidth, int imageHeight, Color... colors) {
+        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            int width = imageWidth / colors.length;
+            for (int i = 0; i < colors.length; i++) {
+                graphics.setColor(colors[i]);
+                graphics.fillRect(i * width, 0, width, imageHeight);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    private BufferedImage fill(BufferedImage image, Color color) {
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(color);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
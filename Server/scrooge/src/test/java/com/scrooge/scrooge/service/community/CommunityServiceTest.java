@@ -0,0 +1,89 @@
+package com.scrooge.scrooge.service.community;
+
+import com.scrooge.scrooge.config.FileUploadProperties;
+import com.scrooge.scrooge.domain.Avatar;
+import com.scrooge.scrooge.domain.community.Article;
+import com.scrooge.scrooge.domain.member.Member;
+import com.scrooge.scrooge.dto.communityDto.ArticleFeedDto;
+import com.scrooge.scrooge.repository.community.ArticleBadRepository;
+import com.scrooge.scrooge.repository.community.ArticleGoodRepository;
+import com.scrooge.scrooge.repository.community.ArticleRepository;
+import com.scrooge.scrooge.repository.member.MemberRepository;
+import com.scrooge.scrooge.repository.member.MemberSelectedQuestRepository;
+import com.scrooge.scrooge.service.ImageUploadService;
+import com.scrooge.scrooge.service.QuestService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 피드 커서 (createdAt, id) 인코딩/디코딩
+public class CommunityServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 3, 1, 12, 0, 0);
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final CommunityService communityService = new CommunityService(mock(MemberRepository.class), articleRepository,
+            mock(FileUploadProperties.class), mock(MemberSelectedQuestRepository.class), mock(QuestService.class),
+            new ArticleReviewCounter(articleRepository), mock(ArticleGoodRepository.class), mock(ArticleBadRepository.class),
+            mock(ImageUploadService.class));
+
+    // 같은 시각에 쓰인 글이 페이지 경계에 걸리면 다음 페이지는 (같은 시각, 더 작은 id) 부터 이어진다.
+    @Test
+    public void cursorCarriesIdForSameCreatedAt() {
+        when(articleRepository.findFeed(PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(article(5L, CREATED_AT), article(4L, CREATED_AT), article(3L, CREATED_AT)));
+
+        ArticleFeedDto firstPage = communityService.getCommunityFeed(null, 2);
+        assertTrue(firstPage.getHasNext());
+        assertEquals(2, firstPage.getArticles().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        when(articleRepository.findFeedAfter(CREATED_AT, 4L, PageRequest.of(0, 3)))
+                .thenReturn(Collections.singletonList(article(3L, CREATED_AT)));
+
+        ArticleFeedDto secondPage = communityService.getCommunityFeed(firstPage.getNextCursor(), 2);
+        assertFalse(secondPage.getHasNext());
+        assertNull(secondPage.getNextCursor());
+        assertEquals(3L, secondPage.getArticles().get(0).getId());
+        verify(articleRepository).findFeedAfter(CREATED_AT, 4L, PageRequest.of(0, 3));
+    }
+
+    @Test
+    public void malformedCursorIsRejected() {
+        for (String cursor : Arrays.asList("not base64!", encode("2023-03-01T12:00"), encode("2023-03-01T12:00,x"),
+                encode("yesterday,1"), encode("2023-03-01T12:00,1,2"))) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> communityService.getCommunityFeed(cursor, 20), cursor);
+            assertEquals("잘못된 cursor 입니다.", e.getMessage());
+        }
+        verify(articleRepository, never()).findFeedAfter(any(), any(), any());
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Article article(Long id, LocalDateTime createdAt) {
+        Avatar avatar = new Avatar();
+        avatar.setId(1L);
+        Member member = new Member();
+        member.setId(1L);
+        member.setMainAvatar(avatar);
+
+        Article article = new Article();
+        article.setId(id);
+        article.setContent("content");
+        article.setCreatedAt(createdAt);
+        article.setMember(member);
+        return article;
+    }
+}